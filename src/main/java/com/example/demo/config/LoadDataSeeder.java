@@ -0,0 +1,61 @@
+package com.example.demo.config;
+
+import com.example.demo.domain.User;
+import com.example.demo.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트용 사용자 생성 (load 프로필에서만 동작)
+ * 이메일은 load-user-{n}@example.com 으로 LoadDriver 와 맞춘다
+ */
+@Component
+@Profile("load")
+public class LoadDataSeeder implements ApplicationRunner {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Value("${load.seed.users:1000}")
+    private int users;
+
+    @Value("${load.seed.adminEvery:1}")
+    private int adminEvery;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<User> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < users; i++) {
+            chunk.add(new User("load-user-" + i, "load-user-" + i + "@example.com", i % Math.max(1, adminEvery) == 0));
+            if (chunk.size() == CHUNK_SIZE) {
+                userRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            userRepository.saveAll(chunk);
+        }
+        log.warn("Seeded {} users for load testing.", users);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.config;
+
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 요청을 virtual thread 에서 처리 (spring.threads.virtual.enabled=true, Java 21 이상)
+ * Tomcat worker pool 대신 요청마다 virtual thread 를 사용하므로
+ * JDBC 대기 중인 요청이 worker thread 를 점유하지 않고, repository 호출도 그대로 virtual thread 에서 실행된다
+ * Java 8 로도 빌드할 수 있도록 virtual thread API 는 reflection 으로 호출한다
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 작업마다 새 virtual thread 를 만드는 executor
+     * @return
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("spring.threads.virtual.enabled 는 Java 21 이상에서만 사용할 수 있습니다. (java.version="
+                    + System.getProperty("java.version") + ")", e);
+        }
+    }
+
+    /**
+     * Tomcat connector 의 worker executor 를 virtual thread executor 로 교체
+     * server.tomcat.max-threads 는 더 이상 동시 요청 수를 제한하지 않으므로 server.tomcat.max-connections 로 제한한다
+     * @param virtualThreadExecutor
+     * @return
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadTomcatCustomizer(ExecutorService virtualThreadExecutor) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            ProtocolHandler handler = connector.getProtocolHandler();
+            if (handler instanceof AbstractProtocol) {
+                ((AbstractProtocol<?>) handler).setExecutor(virtualThreadExecutor);
+                log.info("Tomcat requests run on virtual threads.");
+            }
+        });
+    }
+}
@@ -3,13 +3,30 @@ package com.example.demo.controller;
 import com.example.demo.domain.User;
 import com.example.demo.payload.JwtAuthenticationResponse;
 import com.example.demo.payload.Result;
-import com.example.demo.repository.UserRepository;
 import com.example.demo.security.JwtTokenUtil;
+import com.example.demo.security.SigninRateLimiter;
+import com.example.demo.security.SigningKeyProvider;
+import com.example.demo.security.VerifiedToken;
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.service.TokenBatchService;
+import com.example.demo.service.UserService;
 import org.apache.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -19,11 +36,27 @@ public class AuthController {
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
     @Autowired
-    private UserRepository userRepository;
+    private UserService userService;
 
     @Autowired
     private JwtTokenUtil tokenUtil;
 
+    @Autowired
+    private SigningKeyProvider signingKeyProvider;
+
+    @Autowired
+    private TokenBatchService tokenBatchService;
+
+    @Autowired
+    private SigninRateLimiter signinRateLimiter;
+
+    // JWKS 응답 캐시 시간 (초)
+    @Value("${jwt.keys.jwksMaxAge:300}")
+    private long jwksMaxAge;
+
+    // 로그인 요청 제한 초과 (org.apache.http.HttpStatus 와 같은 이름 규칙)
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Public Variables
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -42,13 +75,35 @@ public class AuthController {
 
     /**
      * 로그인
+     * 요청 제한을 넘으면 사용자 조회 없이 429 (Retry-After) 로 응답한다
      * @param email
+     * @param request
      * @return
      */
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@RequestParam(value = "email") String email) {
-        String jwt = tokenUtil.generateToken(email);
-        return ResponseEntity.ok(new JwtAuthenticationResponse(jwt));
+    public ResponseEntity<?> authenticateUser(@RequestParam(value = "email") String email, HttpServletRequest request) {
+        long retryAfter = signinRateLimiter.acquire(request.getRemoteAddr(), email);
+        if (retryAfter > 0L) {
+            return tooManyRequests(retryAfter);
+        }
+        return ResponseEntity.ok(tokenUtil.generateToken(email));
+    }
+
+    /**
+     * access 토큰 일괄 발급 (서비스 계정, 부하 테스트용)
+     * 결과는 사용자 한명당 한 줄(NDJSON)로 서명되는 대로 전송한다
+     * @param emails
+     * @return
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/signin/batch")
+    public ResponseEntity<StreamingResponseBody> authenticateUsers(@RequestBody List<String> emails) {
+        if (!tokenBatchService.isAcceptable(emails)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(out -> tokenBatchService.issue(emails, out));
     }
 
     /**
@@ -64,17 +119,24 @@ public class AuthController {
             @RequestParam(value = "email") String email,
             @RequestParam(value = "adminFlag") Boolean adminFlag) {
 
-        // Creating user's account
-        User temp = new User(name, email, adminFlag);
-        User user = userRepository.save(temp);
-
         Result result = new Result();
-        if (user != null) {
+        User user = new User(name, email, adminFlag);
+
+        // Creating user's account
+        User created;
+        try {
+            created = userService.saveUser(user);
+        } catch (IllegalArgumentException e) {
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage("잘못된 사용자 정보입니다. (이름 필수, email 형식 확인)");
+            return result;
+        }
+        if (null != created) {
             result.setCode(HttpStatus.SC_OK);
             result.setMessage("사용자가 생성되었습니다.");
         } else {
-            result.setCode(HttpStatus.SC_BAD_REQUEST);
-            result.setMessage("사용자 생성에 실패하였습니다.");
+            result.setCode(HttpStatus.SC_CONFLICT);
+            result.setMessage("이미 존재하는 사용자입니다.");
         }
 
 
@@ -83,26 +145,46 @@ public class AuthController {
 
     /**
      * 토큰 재발급
-     * @param authorization
-     * @return
+     * refresh 토큰은 한번만 사용할 수 있으며, 응답에 새 access 토큰과 교체된 refresh 토큰이 담긴다
+     * @param refreshToken
+     * @return 유효하지 않은 refresh 토큰이라면 null
      */
     @GetMapping("/refresh")
-    public String getRefreshToken(@RequestHeader(value = "Authorization", required = true) String authorization,
-                                  @RequestParam(value = "refresh_token") String refreshToken) {
-        String userEmail = null;
-        // token
-        String token = tokenUtil.getJwtFromToken(authorization);
-        try {
-            userEmail = tokenUtil.getUserEmailFromJWT(token);
-        } catch (Exception e) {
-
-        } finally {
-            if (null != userEmail) {
-                return tokenUtil.generateToken(userEmail);
-            } else {
-                return null;
-            }
+    public JwtAuthenticationResponse getRefreshToken(@RequestParam(value = "refresh_token") String refreshToken) {
+        return tokenUtil.refreshToken(refreshToken);
+    }
+
+    /**
+     * 로그아웃 (현재 토큰 폐기)
+     * @param verifiedToken filter 에서 검증된 토큰
+     * @return
+     */
+    @PostMapping("/signout")
+    public Result signOut(VerifiedToken verifiedToken) {
+        Result result = new Result();
+        if (null != verifiedToken && tokenUtil.revokeToken(verifiedToken)) {
+            result.setCode(HttpStatus.SC_OK);
+            result.setMessage("토큰이 폐기되었습니다.");
+        } else {
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage("폐기할 수 없는 토큰입니다.");
         }
+        return result;
+    }
+
+    /**
+     * 토큰 검증용 공개키 목록 (JWKS)
+     * 미리 직렬화된 응답을 그대로 내려주고, ETag 가 같다면 304 로 응답한다
+     * @return
+     */
+    @GetMapping("/jwks")
+    public ResponseEntity<byte[]> getJwks() {
+        KeyRing keyRing = signingKeyProvider.current();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(keyRing.getJwksETag())
+                .cacheControl(CacheControl.maxAge(jwksMaxAge, TimeUnit.SECONDS).cachePublic())
+                .body(keyRing.getJwks());
     }
 
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
@@ -121,6 +203,20 @@ public class AuthController {
     | Private Method
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
+    /**
+     * 로그인 요청 제한 초과 응답
+     * @param retryAfter 다시 요청할 수 있을 때까지 남은 시간 (ms)
+     * @return
+     */
+    private ResponseEntity<Result> tooManyRequests(long retryAfter) {
+        Result result = new Result();
+        result.setCode(SC_TOO_MANY_REQUESTS);
+        result.setMessage("로그인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        return ResponseEntity.status(SC_TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(retryAfter + 999L)))
+                .body(result);
+    }
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Inner Class
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
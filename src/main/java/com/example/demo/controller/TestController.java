@@ -1,11 +1,13 @@
 package com.example.demo.controller;
 
+import com.example.demo.security.VerifiedToken;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/test")
 public class TestController {
@@ -33,7 +35,7 @@ public class TestController {
     // ADMIN 권한이 있는지 체크
     @GetMapping("/get")
     @PreAuthorize("hasRole('ADMIN')")
-    public String getTest(@RequestHeader(name = "Authorization") String header) {
+    public String getTest(VerifiedToken token) {
         return "test!!!1";
     }
 
@@ -1,15 +1,28 @@
 package com.example.demo.controller;
 
 import com.example.demo.domain.User;
+import com.example.demo.payload.ImportResult;
 import com.example.demo.payload.Result;
+import com.example.demo.payload.UserPage;
+import com.example.demo.security.VerifiedToken;
+import com.example.demo.service.UserImportService;
 import com.example.demo.service.UserService;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.apache.http.HttpStatus;
 
-import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.UUID;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/user")
 public class UserController {
@@ -21,6 +34,12 @@ public class UserController {
     @Autowired
     private UserService _userService;
 
+    @Autowired
+    private UserImportService _userImportService;
+
+    // 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 1000;
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Public Variables
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -48,40 +67,98 @@ public class UserController {
     /** [C]
      * Save user
      * @param user {User}
-     * @return User
+     * @return User, 이름이 없거나 email 형식이 아니라면 400, 이미 있는 email 또는 name 이라면 409
      */
     @RequestMapping(value="", method = RequestMethod.POST)
     public Result saveUser(@RequestBody User user) {
 
         Result result = new Result();
-        User userResult = _userService.saveUser(user);
+        User userResult;
+        try {
+            userResult = _userService.saveUser(user);
+        } catch (IllegalArgumentException e) {
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage("잘못된 사용자 정보입니다. (이름 필수, email 형식 확인)");
+            return result;
+        }
 
         if (null != userResult) {
             result.setCode(HttpStatus.SC_OK);
             result.setData(userResult);
         } else {
-            result.setCode(HttpStatus.SC_NOT_FOUND);
-            result.setData("Failed to save user");
+            result.setCode(HttpStatus.SC_CONFLICT);
+            result.setMessage("이미 존재하는 사용자입니다.");
         }
 
         return result;
     }
 
     /**
-     * 유저 리스트 불러오기
-     * @return List<User>
+     * 유저 리스트 불러오기 (keyset 페이지)
+     * 다음 페이지는 응답의 next 를 after 로 전달하여 요청한다
+     * @param token filter 에서 검증된 토큰
+     * @param after 이전 페이지 마지막 id
+     * @param size 페이지 크기 (최대 1000)
+     * @return UserPage
      */
     @GetMapping(value="")
     @PreAuthorize("hasRole('ADMIN')")
-    public Result getUsers(@RequestHeader(name = "Authorization") String authorization) {
+    public Result getUsers(VerifiedToken token,
+                           @RequestParam(value = "after", required = false) String after,
+                           @RequestParam(value = "size", defaultValue = "100") int size) {
 
         Result result = new Result();
-        List<User> userList = _userService.getUsers();
+        UUID afterId;
+        try {
+            afterId = null == after ? null : UUID.fromString(after);
+        } catch (IllegalArgumentException e) {
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage("잘못된 after 값");
+            return result;
+        }
+        UserPage page = _userService.getUserPage(afterId, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        result.setCode(HttpStatus.SC_OK);
+        result.setData(page);
 
-        if (null != userList) {
-            result.setData(userList);
-        } else {
-            result.setMessage("유저 리스트 없음");
+        return result;
+    }
+
+    /**
+     * 전체 유저 내보내기 (NDJSON)
+     * 한 줄에 사용자 한명씩 읽는 대로 전송한다
+     * @return
+     */
+    @GetMapping(value="/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(out -> _userService.exportUsers(out));
+    }
+
+    /**
+     * 유저 일괄 등록 (multipart, CSV 또는 NDJSON)
+     * 파일은 저장하지 않고 읽는 대로 insert 하며, 실패한 row 는 결과에 담고 계속 진행한다
+     * @param request multipart 요청
+     * @return ImportResult
+     */
+    @PostMapping(value="/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result importUsers(HttpServletRequest request) throws IOException {
+
+        Result result = new Result();
+        if (!ServletFileUpload.isMultipartContent(request)) {
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage("multipart 요청이 아닙니다");
+            return result;
+        }
+        try {
+            ImportResult importResult = _userImportService.importUsers(request);
+            result.setCode(HttpStatus.SC_OK);
+            result.setData(importResult);
+        } catch (FileUploadException e) {
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage(e.getMessage());
         }
 
         return result;
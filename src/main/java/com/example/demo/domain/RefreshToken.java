@@ -0,0 +1,93 @@
+package com.example.demo.domain;
+
+import javax.persistence.*;
+import java.util.Date;
+
+/**
+ * 발급된 refresh 토큰
+ * 토큰 원문은 저장하지 않고 SHA-256 hash 만 저장한다
+ * 같은 로그인에서 rotation 으로 이어진 토큰들은 같은 family 로 묶여, 재사용이 감지되면 family 전체를 폐기한다
+ * user 테이블과는 FK 를 두지 않아 정리 작업이 user 테이블을 잠그지 않는다
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "ux_refresh_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_refresh_token_family", columnList = "family_id"),
+        @Index(name = "ix_refresh_token_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 hex
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false, length = 36)
+    private String userId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date expiresAt;
+
+    // rotation 에 사용된 토큰 여부
+    @Column(name = "used", nullable = false)
+    private Boolean used = false;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public RefreshToken() {
+
+    }
+
+    public RefreshToken(String tokenHash, String userId, String familyId, Date expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Boolean getUsed() {
+        return used;
+    }
+
+    public void setUsed(Boolean used) {
+        this.used = used;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.domain;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 시간순 UUID 생성 (UUID version 7 형식)
+ * - 앞 48bit 는 생성 시각(ms) 이라 새 row 가 clustered index 의 끝에 추가된다
+ * - 나머지는 난수로 채워 추측할 수 없다
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 새 UUID 생성
+     * @return
+     */
+    public static UUID generate() {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+        long timestamp = System.currentTimeMillis();
+        // 48bit timestamp | version(4bit) | 12bit random
+        long mostSigBits = (timestamp << 16)
+                | 0x7000L
+                | ((random[0] & 0x0FL) << 8) | (random[1] & 0xFFL);
+        // variant(2bit) | 62bit random
+        long leastSigBits = 0L;
+        for (int i = 2; i < 10; i++) {
+            leastSigBits = (leastSigBits << 8) | (random[i] & 0xFFL);
+        }
+        leastSigBits = (leastSigBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * BINARY(16) 컬럼 값으로 변환 (JDBC 로 직접 insert 할 때 사용)
+     * @param uuid
+     * @return
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return generate();
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.demo.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import javax.validation.constraints.Email;
+import java.util.UUID;
 
 @Entity
 @Table(name = "user")
@@ -13,11 +15,12 @@ public class User {
     | Private Variables
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
+    // 시간순 UUID 를 BINARY(16) 으로 저장, 외부에는 문자열로 노출
     @Id
-    @Column(name = "id")
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    private String id;
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    @GeneratedValue(generator = "TIME_ORDERED_UUID")
+    @GenericGenerator(name="TIME_ORDERED_UUID", strategy = "com.example.demo.domain.TimeOrderedUuidGenerator")
+    private UUID id;
 
     @Column(name="name", nullable = false, unique=true)
     private String name;
@@ -56,11 +59,16 @@ public class User {
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
     public String getId() {
-        return id;
+        return null == id ? null : id.toString();
     }
 
     public void setId(String id) {
-        this.id = id;
+        this.id = null == id ? null : UUID.fromString(id);
+    }
+
+    @JsonIgnore
+    public UUID getUuid() {
+        return id;
     }
 
     public String getName() {
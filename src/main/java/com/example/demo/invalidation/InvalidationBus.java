@@ -0,0 +1,238 @@
+package com.example.demo.invalidation;
+
+import com.example.demo.security.SigninUserCache;
+import com.example.demo.security.TokenRevocationStore;
+import com.example.demo.security.UserPrincipalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * node 간 캐시 무효화
+ * - 발행한 node 는 바로 적용하고, 다른 node 로는 invalidation.flushInterval 마다 묶어서 전송한다
+ * - 같은 대상에 대한 이벤트는 전송 전에 하나로 합친다
+ * - 수신한 이벤트는 별도 thread 에서 적용하여 transport 수신 thread 를 막지 않는다
+ * metric
+ * - jwt.invalidation.published / coalesced / received (counter)
+ * - jwt.invalidation.lag (timer) : 발행부터 다른 node 에 적용될 때까지 (node 간 시계 차이 포함)
+ */
+@Component
+public class InvalidationBus {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private static final String METRIC_NAME = "jwt.invalidation";
+
+    // 전송 주기 (ms)
+    @Value("${invalidation.flushInterval:50}")
+    private long flushInterval;
+
+    // 한번에 전송할 최대 이벤트 수, 이만큼 쌓이면 주기를 기다리지 않고 전송
+    @Value("${invalidation.maxBatchSize:500}")
+    private int maxBatchSize;
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private SigninUserCache signinUserCache;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 전송 대기 중인 이벤트 (type:key -> 최신 이벤트)
+    private final Map<String, InvalidationEvent> pending = new LinkedHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private ScheduledExecutorService flusher;
+
+    private ExecutorService applier;
+
+    private Counter published;
+
+    private Counter coalesced;
+
+    private Counter received;
+
+    private Timer lag;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        published = Counter.builder(METRIC_NAME + ".published").register(meterRegistry);
+        coalesced = Counter.builder(METRIC_NAME + ".coalesced").register(meterRegistry);
+        received = Counter.builder(METRIC_NAME + ".received").register(meterRegistry);
+        lag = Timer.builder(METRIC_NAME + ".lag").register(meterRegistry);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(daemon("invalidation-flush"));
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        applier = Executors.newSingleThreadExecutor(daemon("invalidation-apply"));
+        transport.subscribe(this::receive);
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(1, TimeUnit.SECONDS);
+        // 남은 이벤트 전송
+        flush();
+        applier.shutdown();
+    }
+
+    /**
+     * 사용자 정보 변경 (관리자 여부 등)
+     * @param userId
+     * @param email
+     */
+    public void userChanged(String userId, String email) {
+        publish(new InvalidationEvent(InvalidationEvent.Type.USER_CHANGED, userId, email, 0L,
+                nodeId, System.currentTimeMillis()));
+    }
+
+    /**
+     * 토큰 폐기
+     * @param tokenId jti
+     * @param expiration 토큰 exp (epoch seconds)
+     * @param email 토큰 사용자
+     */
+    public void tokenRevoked(String tokenId, long expiration, String email) {
+        publish(new InvalidationEvent(InvalidationEvent.Type.TOKEN_REVOKED, tokenId, email, expiration,
+                nodeId, System.currentTimeMillis()));
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 로컬 캐시에 바로 적용 후 전송 대기
+     * @param event
+     */
+    private void publish(InvalidationEvent event) {
+        if (null == event.getKey()) {
+            return;
+        }
+        apply(event);
+        published.increment();
+        int size;
+        lock.lock();
+        try {
+            if (null != pending.put(event.getType() + ":" + event.getKey(), event)) {
+                coalesced.increment();
+            }
+            size = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        if (size >= maxBatchSize && !flusher.isShutdown()) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * 대기 중인 이벤트를 maxBatchSize 단위로 전송
+     */
+    private void flush() {
+        List<InvalidationEvent> events;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            events = new ArrayList<>(pending.values());
+            pending.clear();
+        } finally {
+            lock.unlock();
+        }
+        for (int from = 0; from < events.size(); from += maxBatchSize) {
+            List<InvalidationEvent> batch = events.subList(from, Math.min(events.size(), from + maxBatchSize));
+            try {
+                transport.send(batch);
+            } catch (RuntimeException e) {
+                // 다른 node 는 각 캐시의 만료 시간 이후에 반영된다
+                log.warn("Failed to send {} invalidation events: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다른 node 의 이벤트 수신
+     * @param events
+     */
+    private void receive(List<InvalidationEvent> events) {
+        if (applier.isShutdown()) {
+            return;
+        }
+        applier.execute(() -> {
+            for (InvalidationEvent event : events) {
+                if (nodeId.equals(event.getOrigin())) {
+                    continue;
+                }
+                try {
+                    apply(event);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to apply invalidation event {}: {}", event.getType(), e.getMessage());
+                }
+                received.increment();
+                lag.record(Math.max(0L, System.currentTimeMillis() - event.getPublishedAt()), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    private void apply(InvalidationEvent event) {
+        switch (event.getType()) {
+            case USER_CHANGED:
+                userPrincipalCache.invalidate(event.getKey());
+                signinUserCache.invalidate(event.getEmail());
+                break;
+            case TOKEN_REVOKED:
+                tokenRevocationStore.revoke(event.getKey(), event.getExpiration());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.invalidation;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 캐시 무효화 이벤트
+ * - USER_CHANGED : key = user id, 사용자 principal / 로그인 사용자 캐시 제거
+ * - TOKEN_REVOKED : key = jti, 폐기 목록 추가
+ */
+public class InvalidationEvent {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Type type;
+
+    private final String key;
+
+    private final String email;
+
+    // TOKEN_REVOKED 의 토큰 exp (epoch seconds)
+    private final long expiration;
+
+    // 발행한 node
+    private final String origin;
+
+    // 발행 시각 (epoch ms), 전파 지연 측정용
+    private final long publishedAt;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @JsonCreator
+    public InvalidationEvent(@JsonProperty("type") Type type,
+                             @JsonProperty("key") String key,
+                             @JsonProperty("email") String email,
+                             @JsonProperty("expiration") long expiration,
+                             @JsonProperty("origin") String origin,
+                             @JsonProperty("publishedAt") long publishedAt) {
+        this.type = type;
+        this.key = key;
+        this.email = email;
+        this.expiration = expiration;
+        this.origin = origin;
+        this.publishedAt = publishedAt;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getPublishedAt() {
+        return publishedAt;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public enum Type {
+        USER_CHANGED, TOKEN_REVOKED
+    }
+}
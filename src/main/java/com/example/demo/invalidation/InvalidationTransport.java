@@ -0,0 +1,23 @@
+package com.example.demo.invalidation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * node 간 무효화 이벤트 전달
+ * invalidation.transport 로 구현을 선택한다 (loopback, redis)
+ */
+public interface InvalidationTransport {
+
+    /**
+     * 이벤트 묶음 전송
+     * @param events
+     */
+    void send(List<InvalidationEvent> events);
+
+    /**
+     * 수신 등록, 자신이 보낸 이벤트도 전달될 수 있다
+     * @param receiver
+     */
+    void subscribe(Consumer<List<InvalidationEvent>> receiver);
+}
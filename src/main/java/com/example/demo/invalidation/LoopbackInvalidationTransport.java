@@ -0,0 +1,40 @@
+package com.example.demo.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * JVM 내부 전달 (단일 node, 테스트)
+ * 보낸 이벤트를 같은 transport 의 모든 수신자에게 바로 전달한다
+ * 여러 InvalidationBus 가 하나의 transport 를 공유하면 여러 node 처럼 동작한다
+ */
+@Component
+@ConditionalOnProperty(name = "invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final List<Consumer<List<InvalidationEvent>>> receivers = new CopyOnWriteArrayList<>();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public void send(List<InvalidationEvent> events) {
+        for (Consumer<List<InvalidationEvent>> receiver : receivers) {
+            receiver.accept(events);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<InvalidationEvent>> receiver) {
+        receivers.add(receiver);
+    }
+}
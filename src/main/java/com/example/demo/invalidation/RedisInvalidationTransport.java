@@ -0,0 +1,94 @@
+package com.example.demo.invalidation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 전달 (여러 node, redis 프로필)
+ * 묶음 하나를 JSON 배열 메시지 하나로 발행한다
+ * pub/sub 은 전달을 보장하지 않으므로 끊긴 동안의 이벤트는 각 캐시의 만료 시간까지 반영되지 않을 수 있다
+ */
+@Component
+@ConditionalOnProperty(name = "invalidation.transport", havingValue = "redis")
+public class RedisInvalidationTransport implements InvalidationTransport {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private static final TypeReference<List<InvalidationEvent>> EVENTS_TYPE = new TypeReference<List<InvalidationEvent>>() {};
+
+    @Value("${invalidation.redis.channel:jwt-invalidation}")
+    private String channel;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RedisMessageListenerContainer container;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    public void destroy() throws Exception {
+        container.destroy();
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public void send(List<InvalidationEvent> events) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(events));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<InvalidationEvent>> receiver) {
+        container.addMessageListener((message, pattern) -> {
+            try {
+                receiver.accept(objectMapper.readValue(message.getBody(), EVENTS_TYPE));
+            } catch (IOException e) {
+                log.warn("Invalid invalidation message: {}", e.getMessage());
+            }
+        }, new ChannelTopic(channel));
+    }
+}
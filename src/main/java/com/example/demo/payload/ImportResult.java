@@ -0,0 +1,103 @@
+package com.example.demo.payload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과
+ */
+public class ImportResult {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private long total;
+
+    private long inserted;
+
+    private long failed;
+
+    // 실패한 row (최대 maxFailures 건까지만 보관)
+    private final List<Failure> failures = new ArrayList<>();
+
+    private final int maxFailures;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public ImportResult(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public void addRows(long rows) {
+        total += rows;
+    }
+
+    public void addInserted(long rows) {
+        inserted += rows;
+    }
+
+    public void addFailure(long line, String email, String reason) {
+        failed++;
+        if (failures.size() < maxFailures) {
+            failures.add(new Failure(line, email, reason));
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public static class Failure {
+
+        private final long line;
+
+        private final String email;
+
+        private final String reason;
+
+        public Failure(long line, String email, String reason) {
+            this.line = line;
+            this.email = email;
+            this.reason = reason;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -10,6 +10,8 @@ public class JwtAuthenticationResponse {
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
     private String accessToken;
+    // access 토큰에 넣지 않고 따로 내려준다 (재발급시 교체된 토큰)
+    private String refreshToken;
     private String tokenType = "Bearer";
 
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
@@ -24,6 +26,11 @@ public class JwtAuthenticationResponse {
         this.accessToken = accessToken;
     }
 
+    public JwtAuthenticationResponse(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Getter & Setter Method ( DI Method )
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -36,6 +43,14 @@ public class JwtAuthenticationResponse {
         this.accessToken = accessToken;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public String getTokenType() {
         return tokenType;
     }
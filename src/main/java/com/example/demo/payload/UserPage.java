@@ -0,0 +1,39 @@
+package com.example.demo.payload;
+
+import java.util.List;
+
+/**
+ * keyset 방식 사용자 목록 한 페이지
+ */
+public class UserPage {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final List<UserSummary> users;
+
+    // 다음 페이지 요청시 after 로 전달, 마지막 페이지라면 null
+    private final String next;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public UserPage(List<UserSummary> users, String next) {
+        this.users = users;
+        this.next = next;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public List<UserSummary> getUsers() {
+        return users;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.payload;
+
+import java.util.UUID;
+
+/**
+ * 사용자 목록 조회용 projection
+ * entity 를 만들지 않고 필요한 컬럼만 조회한다
+ */
+public class UserSummary {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final String id;
+
+    private final String name;
+
+    private final String email;
+
+    private final Boolean adminFlag;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // JPQL constructor expression 에서 사용
+    public UserSummary(UUID id, String name, String email, Boolean adminFlag) {
+        this.id = null == id ? null : id.toString();
+        this.name = name;
+        this.email = email;
+        this.adminFlag = adminFlag;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Boolean getAdminFlag() {
+        return adminFlag;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.demo.reactive;
+
+import com.example.demo.domain.User;
+import com.example.demo.payload.JwtAuthenticationResponse;
+import com.example.demo.payload.Result;
+import com.example.demo.security.JwtTokenUtil;
+import com.example.demo.security.SigninRateLimiter;
+import com.example.demo.security.SigningKeyProvider;
+import com.example.demo.security.VerifiedToken;
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.service.UserService;
+import org.apache.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthController 의 reactive 버전
+ * DB 작업 (사용자 조회, refresh 토큰 저장) 은 jdbcScheduler 에서 실행하고 서명은 event loop 에서 처리한다
+ * 일괄 발급 (/signin/batch) 은 servlet 스택에서만 제공한다
+ */
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthController {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtTokenUtil tokenUtil;
+
+    @Autowired
+    private SigningKeyProvider signingKeyProvider;
+
+    @Autowired
+    private SigninRateLimiter signinRateLimiter;
+
+    // JWKS 응답 캐시 시간 (초)
+    @Value("${jwt.keys.jwksMaxAge:300}")
+    private long jwksMaxAge;
+
+    // 로그인 요청 제한 초과 (org.apache.http.HttpStatus 와 같은 이름 규칙)
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 로그인
+     * 요청 제한을 넘으면 jdbcScheduler 로 넘기지 않고 429 (Retry-After) 로 응답한다
+     * @param email
+     * @param request
+     * @return
+     */
+    @PostMapping("/signin")
+    public Mono<ResponseEntity<?>> authenticateUser(@RequestParam(value = "email") String email,
+                                                    ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        String clientAddress = null == remoteAddress ? null : remoteAddress.getHostString();
+        long retryAfter = signinRateLimiter.acquire(clientAddress, email);
+        if (retryAfter > 0L) {
+            return Mono.just(tooManyRequests(retryAfter));
+        }
+        return userRepository.blocking(() -> tokenUtil.generateToken(email))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 회원가입
+     * @param name
+     * @param email
+     * @param adminFlag
+     * @return
+     */
+    @PostMapping("/signup")
+    public Mono<Result> registerUser(
+            @RequestParam(value = "name") String name,
+            @RequestParam(value = "email") String email,
+            @RequestParam(value = "adminFlag") Boolean adminFlag) {
+
+        User user = new User(name, email, adminFlag);
+        // servlet 스택과 같은 서비스 (등록 후 캐시 무효화 전파) 를 jdbcScheduler 에서 실행
+        return userRepository.blocking(() -> null != userService.saveUser(user))
+                .map(created -> {
+                    Result result = new Result();
+                    if (created) {
+                        result.setCode(HttpStatus.SC_OK);
+                        result.setMessage("사용자가 생성되었습니다.");
+                    } else {
+                        result.setCode(HttpStatus.SC_CONFLICT);
+                        result.setMessage("이미 존재하는 사용자입니다.");
+                    }
+                    return result;
+                })
+                // 검증은 saveUser 에서만 (이름 필수, email 형식)
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    Result result = new Result();
+                    result.setCode(HttpStatus.SC_BAD_REQUEST);
+                    result.setMessage("잘못된 사용자 정보입니다. (이름 필수, email 형식 확인)");
+                    return Mono.just(result);
+                });
+    }
+
+    /**
+     * 토큰 재발급
+     * @param refreshToken
+     * @return 유효하지 않은 refresh 토큰이라면 빈 응답
+     */
+    @GetMapping("/refresh")
+    public Mono<JwtAuthenticationResponse> getRefreshToken(@RequestParam(value = "refresh_token") String refreshToken) {
+        return userRepository.blocking(() -> tokenUtil.refreshToken(refreshToken));
+    }
+
+    /**
+     * 로그아웃 (현재 토큰 폐기)
+     * @param verifiedToken filter 에서 검증된 토큰
+     * @return
+     */
+    @PostMapping("/signout")
+    public Mono<Result> signOut(VerifiedToken verifiedToken) {
+        Result result = new Result();
+        if (null != verifiedToken && tokenUtil.revokeToken(verifiedToken)) {
+            result.setCode(HttpStatus.SC_OK);
+            result.setMessage("토큰이 폐기되었습니다.");
+        } else {
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage("폐기할 수 없는 토큰입니다.");
+        }
+        return Mono.just(result);
+    }
+
+    /**
+     * 토큰 검증용 공개키 목록 (JWKS)
+     * @return
+     */
+    @GetMapping("/jwks")
+    public ResponseEntity<byte[]> getJwks() {
+        KeyRing keyRing = signingKeyProvider.current();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(keyRing.getJwksETag())
+                .cacheControl(CacheControl.maxAge(jwksMaxAge, TimeUnit.SECONDS).cachePublic())
+                .body(keyRing.getJwks());
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 로그인 요청 제한 초과 응답
+     * @param retryAfter 다시 요청할 수 있을 때까지 남은 시간 (ms)
+     * @return
+     */
+    private ResponseEntity<?> tooManyRequests(long retryAfter) {
+        Result result = new Result();
+        result.setCode(SC_TOO_MANY_REQUESTS);
+        result.setMessage("로그인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        return ResponseEntity.status(SC_TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(retryAfter + 999L)))
+                .body(result);
+    }
+}
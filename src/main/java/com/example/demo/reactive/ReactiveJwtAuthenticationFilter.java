@@ -0,0 +1,107 @@
+package com.example.demo.reactive;
+
+import com.example.demo.security.AuthMetrics;
+import com.example.demo.security.AuthenticationMode;
+import com.example.demo.security.JwtTokenUtil;
+import com.example.demo.security.JwtUserFactory;
+import com.example.demo.security.UserPrincipal;
+import com.example.demo.security.UserPrincipalCache;
+import com.example.demo.security.VerifiedToken;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * JWT 인증 WebFilter (JwtAuthenticationFilter 의 reactive 버전)
+ * 토큰 검증은 CPU 작업이므로 event loop 에서 바로 처리하고,
+ * principal 이 캐시에 없을 때만 ReactiveUserRepository 로 조회한다
+ * bean 으로 등록하면 모든 요청에 중복 적용되므로 SecurityWebFilterChain 에서 직접 생성한다
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final ReactiveUserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final AuthMetrics authMetrics;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public ReactiveJwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, ReactiveUserRepository userRepository,
+                                           UserPrincipalCache userPrincipalCache, AuthMetrics authMetrics) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.authMetrics = authMetrics;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        String token = jwtTokenUtil.getJwtFromToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (!StringUtils.hasText(token)) {
+            authMetrics.record(AuthMetrics.Stage.FILTER, start);
+            return chain.filter(exchange);
+        }
+        // 토큰 파싱/검증은 요청당 한번만 수행
+        VerifiedToken verifiedToken = jwtTokenUtil.verifyToken(token);
+        if (!verifiedToken.isValid()) {
+            authMetrics.record(AuthMetrics.Stage.FILTER, start);
+            return chain.filter(exchange);
+        }
+        return authenticate(verifiedToken)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> {
+                    // 인증 처리 시간 (이후 filter/controller 제외, DB 조회 대기 포함)
+                    authMetrics.record(AuthMetrics.Stage.FILTER, start);
+                    if (!authentication.isPresent()) {
+                        return chain.filter(exchange);
+                    }
+                    // controller 에서 재사용할 수 있도록 저장
+                    exchange.getAttributes().put(VerifiedToken.REQUEST_ATTRIBUTE, verifiedToken);
+                    return chain.filter(exchange)
+                            .subscriberContext(ReactiveSecurityContextHolder.withAuthentication(authentication.get()));
+                });
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 검증된 토큰으로 Authentication 생성
+     * @param verifiedToken
+     * @return 사용자가 없다면 빈 Mono
+     */
+    private Mono<Authentication> authenticate(VerifiedToken verifiedToken) {
+        // 클래임만으로 인증하는 경우 DB 조회 없음
+        if (jwtTokenUtil.getAuthenticationMode() == AuthenticationMode.CLAIMS) {
+            return Mono.just(jwtTokenUtil.getAuthentication(verifiedToken));
+        }
+        UserPrincipal cached = userPrincipalCache.getIfPresent(verifiedToken.getUserId());
+        if (null != cached) {
+            return Mono.just(jwtTokenUtil.getAuthentication(verifiedToken, cached));
+        }
+        return userRepository.findById(verifiedToken.getUserId())
+                .map(JwtUserFactory::create)
+                .doOnNext(userPrincipalCache::put)
+                .map(principal -> jwtTokenUtil.getAuthentication(verifiedToken, principal));
+    }
+}
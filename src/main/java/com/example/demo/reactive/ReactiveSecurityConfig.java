@@ -0,0 +1,53 @@
+package com.example.demo.reactive;
+
+import com.example.demo.security.AuthMetrics;
+import com.example.demo.security.JwtTokenUtil;
+import com.example.demo.security.UserPrincipalCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * 스프링 시큐리티 설정 (WebFlux)
+ * SecurityConfig 와 같은 규칙을 적용하며, @PreAuthorize 는 Mono/Flux 를 반환하는 메소드에만 적용된다
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class ReactiveSecurityConfig {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         JwtTokenUtil jwtTokenUtil,
+                                                         ReactiveUserRepository userRepository,
+                                                         UserPrincipalCache userPrincipalCache,
+                                                         AuthMetrics authMetrics) {
+        http
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable()
+                // stateless (session 에 SecurityContext 를 저장하지 않음)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange()
+                .pathMatchers("/api/auth/**").permitAll()
+                .pathMatchers("/actuator/health").permitAll()
+                .pathMatchers("/actuator/**").hasRole("ADMIN")
+                .anyExchange().permitAll()
+                .and()
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtTokenUtil, userRepository, userPrincipalCache, authMetrics),
+                        SecurityWebFiltersOrder.AUTHENTICATION);
+        return http.build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.reactive;
+
+import com.example.demo.security.VerifiedToken;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * TestController 의 reactive 버전
+ */
+@RestController
+@RequestMapping("/test")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTestController {
+
+    // ADMIN 권한이 있는지 체크
+    @GetMapping("/get")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<String> getTest(VerifiedToken token) {
+        return Mono.just("test!!!1");
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.reactive;
+
+import com.example.demo.domain.User;
+import com.example.demo.payload.Result;
+import com.example.demo.payload.UserPage;
+import com.example.demo.security.VerifiedToken;
+import com.example.demo.service.UserService;
+import org.apache.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * UserController 의 reactive 버전
+ * 일괄 등록 (/import), 내보내기 (/export) 는 servlet 스택에서만 제공한다
+ */
+@RestController
+@RequestMapping("/api/user")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserController {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    // 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /** [C]
+     * Save user
+     * @param user {User}
+     * @return User, 이름이 없거나 email 형식이 아니라면 400, 이미 있는 email 또는 name 이라면 409
+     */
+    @PostMapping(value="")
+    public Mono<Result> saveUser(@RequestBody User user) {
+        // servlet 스택과 같은 서비스 (등록 후 캐시 무효화 전파) 를 jdbcScheduler 에서 실행
+        return userRepository.blocking(() -> null != userService.saveUser(user))
+                .map(created -> {
+                    Result result = new Result();
+                    if (created) {
+                        result.setCode(HttpStatus.SC_OK);
+                        result.setData(user);
+                    } else {
+                        result.setCode(HttpStatus.SC_CONFLICT);
+                        result.setMessage("이미 존재하는 사용자입니다.");
+                    }
+                    return result;
+                })
+                // 검증은 saveUser 에서만 (이름 필수, email 형식)
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    Result result = new Result();
+                    result.setCode(HttpStatus.SC_BAD_REQUEST);
+                    result.setMessage("잘못된 사용자 정보입니다. (이름 필수, email 형식 확인)");
+                    return Mono.just(result);
+                });
+    }
+
+    /**
+     * 유저 리스트 불러오기 (keyset 페이지)
+     * @param token filter 에서 검증된 토큰
+     * @param after 이전 페이지 마지막 id
+     * @param size 페이지 크기 (최대 1000)
+     * @return UserPage
+     */
+    @GetMapping(value="")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<Result> getUsers(VerifiedToken token,
+                                 @RequestParam(value = "after", required = false) String after,
+                                 @RequestParam(value = "size", defaultValue = "100") int size) {
+
+        UUID afterId;
+        try {
+            afterId = null == after ? null : UUID.fromString(after);
+        } catch (IllegalArgumentException e) {
+            Result result = new Result();
+            result.setCode(HttpStatus.SC_BAD_REQUEST);
+            result.setMessage("잘못된 after 값");
+            return Mono.just(result);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return userRepository.findSummaries(afterId, pageSize)
+                .collectList()
+                .map(users -> {
+                    // 가득 찼다면 다음 페이지가 있을 수 있음
+                    String next = users.size() == pageSize ? users.get(users.size() - 1).getId() : null;
+                    Result result = new Result();
+                    result.setCode(HttpStatus.SC_OK);
+                    result.setData(new UserPage(users, next));
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.reactive;
+
+import com.example.demo.domain.User;
+import com.example.demo.payload.UserSummary;
+import com.example.demo.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * UserRepository 의 reactive 버전
+ * Spring Boot 2.0 에서는 R2DBC 를 사용할 수 없으므로 기존 JPA repository 를 jdbcScheduler 에서 실행하고
+ * 결과는 parallel scheduler 에서 이어받아 JDBC thread 를 바로 반환한다
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserRepository {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier(ReactiveConfig.JDBC_SCHEDULER)
+    private Scheduler jdbcScheduler;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public Mono<User> findById(String id) {
+        return blocking(() -> userRepository.findById(id));
+    }
+
+    public Mono<User> findByEmail(String email) {
+        return blocking(() -> userRepository.findByEmail(email));
+    }
+
+    /**
+     * 사용자 목록 한 페이지 (keyset)
+     * @param after 이전 페이지 마지막 id, 첫 페이지라면 null
+     * @param size
+     * @return
+     */
+    public Flux<UserSummary> findSummaries(UUID after, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        return blocking(() -> null == after
+                ? userRepository.findSummaries(limit)
+                : userRepository.findSummariesAfter(after, limit))
+                .flatMapIterable(users -> users);
+    }
+
+    /**
+     * blocking 호출을 jdbcScheduler 에서 실행
+     * @param callable null 을 반환하면 빈 Mono
+     * @return
+     */
+    public <T> Mono<T> blocking(Callable<T> callable) {
+        return Mono.fromCallable(callable)
+                .subscribeOn(jdbcScheduler)
+                .publishOn(Schedulers.parallel());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.reactive;
+
+import com.example.demo.security.VerifiedToken;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * controller 파라미터로 {@link VerifiedToken} 을 넘겨주는 resolver (WebFlux)
+ * {@link ReactiveJwtAuthenticationFilter} 가 exchange attribute 에 저장한 토큰을 사용한다
+ */
+public class ReactiveVerifiedTokenArgumentResolver implements SyncHandlerMethodArgumentResolver {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return VerifiedToken.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgumentValue(MethodParameter parameter,
+                                       BindingContext bindingContext,
+                                       ServerWebExchange exchange) {
+        // 검증된 토큰이 없다면 null
+        return exchange.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE);
+    }
+}
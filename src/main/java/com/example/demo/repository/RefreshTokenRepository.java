@@ -0,0 +1,38 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    RefreshToken findByTokenHash(String tokenHash);
+
+    /**
+     * 사용 처리 (아직 사용되지 않은 경우에만)
+     * @return 0 이라면 이미 다른 요청에서 사용됨
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken r set r.used = true where r.id = :id and r.used = false")
+    int markUsed(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    /**
+     * 만료된 토큰을 최대 limit 건 삭제 (expires_at 인덱스 범위 삭제)
+     * @return 삭제 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") Date now, @Param("limit") int limit);
+}
@@ -1,18 +1,61 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.User;
+import com.example.demo.payload.UserSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 
     User findByEmail(String email);
 
-    User findById(String id);
+    List<User> findByEmailIn(Collection<String> emails);
+
+    /**
+     * 첫 페이지 (id 순)
+     * @param pageable 크기만 사용 (page 는 항상 0)
+     * @return
+     */
+    @Query("select new com.example.demo.payload.UserSummary(u.id, u.name, u.email, u.adminFlag) "
+            + "from User u order by u.id")
+    List<UserSummary> findSummaries(Pageable pageable);
+
+    /**
+     * after 다음 페이지 (PK 범위 조회이므로 offset 과 달리 페이지 위치와 무관하게 일정한 비용)
+     * @param after 이전 페이지 마지막 id
+     * @param pageable 크기만 사용 (page 는 항상 0)
+     * @return
+     */
+    @Query("select new com.example.demo.payload.UserSummary(u.id, u.name, u.email, u.adminFlag) "
+            + "from User u where u.id > :after order by u.id")
+    List<UserSummary> findSummariesAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * 문자열 id 로 조회
+     * @param id
+     * @return UUID 형식이 아니거나 없다면 null
+     */
+    default User findById(String id) {
+        if (null == id) {
+            return null;
+        }
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return findById(uuid).orElse(null);
+    }
 
     Boolean existsByName(String name);
 
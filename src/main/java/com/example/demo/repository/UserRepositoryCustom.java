@@ -0,0 +1,28 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.User;
+import com.example.demo.payload.UserSummary;
+
+import java.util.stream.Stream;
+
+/**
+ * JPA 로 표현하기 어려운 사용자 쿼리
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 사용자 등록 (INSERT 한번)
+     * 중복 여부는 미리 조회하지 않고 email, name unique index 로 판단한다
+     * @param user id 는 새로 생성하여 설정한다
+     * @return 등록되었다면 true, 같은 email 또는 name 이 이미 있다면 false
+     */
+    boolean insertIfAbsent(User user);
+
+    /**
+     * 전체 사용자 forward-only 조회 (id 순)
+     * fetch size 는 DB 종류에 맞춰 설정한다 (MySQL 은 한 row 씩 전송)
+     * transaction 안에서 사용하고 반드시 close 해야 한다
+     * @return
+     */
+    Stream<UserSummary> streamSummaries();
+}
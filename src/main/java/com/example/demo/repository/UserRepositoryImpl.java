@@ -0,0 +1,96 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.TimeOrderedUuidGenerator;
+import com.example.demo.domain.User;
+import com.example.demo.payload.UserSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * UserRepositoryCustom 구현
+ * JPA save 는 unique 위반을 DataIntegrityViolationException 으로만 알려주므로
+ * JdbcTemplate 으로 insert 하여 중복 (DuplicateKeyException) 과 다른 오류를 구분한다
+ * 전체 조회의 fetch size 는 DB 마다 의미가 달라 기동시 DB 종류를 확인하여 정한다
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final String INSERT_SQL =
+            "INSERT INTO `user` (id, name, email, user_image_url, admin_flag) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String STREAM_SUMMARIES_JPQL =
+            "select new com.example.demo.payload.UserSummary(u.id, u.name, u.email, u.adminFlag) "
+                    + "from User u order by u.id";
+
+    // MySQL 외 DB 의 fetch size (한번에 가져올 row 수)
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private int streamFetchSize;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때만 한 row 씩 전송하고 (그 외에는 전체를 메모리에 읽음)
+     * H2 등 다른 driver 는 음수 fetch size 를 거부하므로 양수를 사용한다
+     * @throws MetaDataAccessException
+     */
+    @PostConstruct
+    public void init() throws MetaDataAccessException {
+        String productName = JdbcUtils.commonDatabaseName(
+                (String) JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), "getDatabaseProductName"));
+        streamFetchSize = "MySQL".equals(productName) ? Integer.MIN_VALUE : STREAM_FETCH_SIZE;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Implement Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public boolean insertIfAbsent(User user) {
+        UUID id = TimeOrderedUuidGenerator.generate();
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> {
+                ps.setBytes(1, TimeOrderedUuidGenerator.toBytes(id));
+                ps.setString(2, user.getName());
+                ps.setString(3, user.getEmail());
+                ps.setString(4, user.getImageUrl());
+                ps.setBoolean(5, Boolean.TRUE.equals(user.getAdminFlag()));
+            });
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        user.setId(id.toString());
+        return true;
+    }
+
+    @Override
+    public Stream<UserSummary> streamSummaries() {
+        return entityManager.createQuery(STREAM_SUMMARIES_JPQL, UserSummary.class)
+                .setHint(HINT_FETCH_SIZE, streamFetchSize)
+                .setHint(HINT_READONLY, true)
+                .getResultStream();
+    }
+}
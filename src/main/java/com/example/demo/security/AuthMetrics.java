@@ -0,0 +1,123 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 처리 단계별 metric
+ * - jwt.auth.stage (timer, tag stage) : 단계별 소요 시간
+ * - jwt.auth.rejected (counter, tag reason) : 검증 실패 사유별 건수
+ * meter 는 생성시 한번만 등록하고 요청마다 조회하지 않는다
+ * percentile 은 management.metrics.distribution.* 설정으로 켠다
+ */
+@Component
+public class AuthMetrics {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public static final String STAGE_TIMER = "jwt.auth.stage";
+
+    public static final String REJECTED_COUNTER = "jwt.auth.rejected";
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+    private final Map<TokenStatus, Counter> rejections = new EnumMap<>(TokenStatus.class);
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder(STAGE_TIMER)
+                    .tag("stage", stage.tagValue)
+                    .register(meterRegistry));
+        }
+        for (TokenStatus status : TokenStatus.values()) {
+            if (status != TokenStatus.VALID) {
+                rejections.put(status, Counter.builder(REJECTED_COUNTER)
+                        .tag("reason", status.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     * @param stage
+     * @param startNanos System.nanoTime() 으로 얻은 시작 시각
+     */
+    public void record(Stage stage, long startNanos) {
+        timers.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 검증 실패 기록
+     * @param status
+     */
+    public void rejected(TokenStatus status) {
+        Counter counter = rejections.get(status);
+        if (null != counter) {
+            counter.increment();
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 인증 처리 단계
+     */
+    public enum Stage {
+
+        // JwtAuthenticationFilter 전체
+        FILTER("filter"),
+
+        // 토큰 검증 전체 (캐시 조회, 폐기 확인 포함)
+        VERIFY("verify"),
+
+        // base64 디코딩, header 확인, 서명 검증
+        SIGNATURE("signature"),
+
+        // payload 클래임 읽기
+        CLAIMS("claims"),
+
+        // 토큰 서명
+        SIGN("sign"),
+
+        // Authentication 생성
+        AUTHENTICATION("authentication"),
+
+        // UserService 사용자 조회
+        USER_LOOKUP("user.lookup"),
+
+        // CustomUserDetailsService.loadUserByUsername
+        USER_DETAILS("user.details");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.security;
+
+/**
+ * 인증 시 principal 을 만드는 방식
+ */
+public enum AuthenticationMode {
+
+    // DB(캐시 포함)에서 사용자를 조회하여 생성
+    DATABASE,
+
+    // 검증된 토큰의 클래임만으로 생성 (DB 조회 없음)
+    CLAIMS
+}
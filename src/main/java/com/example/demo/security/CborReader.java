@@ -0,0 +1,247 @@
+package com.example.demo.security;
+
+import io.jsonwebtoken.MalformedJwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.example.demo.security.CborWriter.MAJOR_ARRAY;
+import static com.example.demo.security.CborWriter.MAJOR_BYTES;
+import static com.example.demo.security.CborWriter.MAJOR_MAP;
+import static com.example.demo.security.CborWriter.MAJOR_NEGATIVE;
+import static com.example.demo.security.CborWriter.MAJOR_SIMPLE;
+import static com.example.demo.security.CborWriter.MAJOR_TAG;
+import static com.example.demo.security.CborWriter.MAJOR_TEXT;
+import static com.example.demo.security.CborWriter.MAJOR_UNSIGNED;
+import static com.example.demo.security.CborWriter.SIMPLE_FALSE;
+import static com.example.demo.security.CborWriter.SIMPLE_NULL;
+import static com.example.demo.security.CborWriter.SIMPLE_TRUE;
+
+/**
+ * CWT 토큰 검증에 필요한 만큼만 구현한 CBOR (RFC 7049) reader
+ * 길이가 정해지지 않은(indefinite) item 은 지원하지 않으며, 잘못된 입력은 MalformedJwtException 으로 거부한다
+ */
+final class CborReader {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // 중첩 item 최대 깊이 (skip 시 stack overflow 방지)
+    private static final int MAX_DEPTH = 16;
+
+    private final byte[] data;
+
+    private int position;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    CborReader(byte[] data) {
+        this.data = data;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 다음 item 의 major type
+     * @return
+     */
+    int peekMajor() {
+        require(1);
+        return (data[position] & 0xFF) >>> 5;
+    }
+
+    boolean isFinished() {
+        return position == data.length;
+    }
+
+    long readTag() {
+        return readHead(MAJOR_TAG);
+    }
+
+    int readArray() {
+        return readLength(MAJOR_ARRAY);
+    }
+
+    int readMap() {
+        return readLength(MAJOR_MAP);
+    }
+
+    long readInt() {
+        int major = peekMajor();
+        if (major == MAJOR_UNSIGNED) {
+            long value = readHead(MAJOR_UNSIGNED);
+            if (value < 0) {
+                throw new MalformedJwtException("CBOR integer out of range.");
+            }
+            return value;
+        }
+        long value = readHead(MAJOR_NEGATIVE);
+        if (value < 0) {
+            throw new MalformedJwtException("CBOR integer out of range.");
+        }
+        return -1L - value;
+    }
+
+    byte[] readBytes() {
+        int length = readLength(MAJOR_BYTES);
+        byte[] value = Arrays.copyOfRange(data, position, position + length);
+        position += length;
+        return value;
+    }
+
+    String readText() {
+        int length = readLength(MAJOR_TEXT);
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * @return null 이라면 null
+     */
+    Boolean readBoolean() {
+        int simple = readSimple();
+        switch (simple) {
+            case SIMPLE_TRUE:
+                return Boolean.TRUE;
+            case SIMPLE_FALSE:
+                return Boolean.FALSE;
+            case SIMPLE_NULL:
+                return null;
+            default:
+                throw new MalformedJwtException("Unexpected CBOR simple value: " + simple);
+        }
+    }
+
+    /**
+     * 다음 item 이 null 이라면 읽고 true
+     * @return
+     */
+    boolean skipNull() {
+        require(1);
+        if ((data[position] & 0xFF) == ((MAJOR_SIMPLE << 5) | SIMPLE_NULL)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 사용하지 않는 item 건너뛰기 (중첩 item 포함)
+     */
+    void skip() {
+        skip(0);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private void skip(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new MalformedJwtException("CBOR item is nested too deeply.");
+        }
+        int major = peekMajor();
+        switch (major) {
+            case MAJOR_UNSIGNED:
+            case MAJOR_NEGATIVE:
+            case MAJOR_SIMPLE:
+                readHead(major);
+                break;
+            case MAJOR_BYTES:
+            case MAJOR_TEXT:
+                position += readLength(major);
+                break;
+            case MAJOR_ARRAY:
+                for (int i = readLength(major); i > 0; i--) {
+                    skip(depth + 1);
+                }
+                break;
+            case MAJOR_MAP:
+                for (int i = readLength(major); i > 0; i--) {
+                    skip(depth + 1);
+                    skip(depth + 1);
+                }
+                break;
+            default:
+                readHead(MAJOR_TAG);
+                skip(depth + 1);
+        }
+    }
+
+    private int readSimple() {
+        require(1);
+        int initial = data[position] & 0xFF;
+        if (initial >>> 5 != MAJOR_SIMPLE || (initial & 0x1F) >= 24) {
+            throw new MalformedJwtException("Expected CBOR simple value.");
+        }
+        position++;
+        return initial & 0x1F;
+    }
+
+    /**
+     * 길이 값 읽기, 남은 데이터보다 길다면 거부
+     * @param major
+     * @return
+     */
+    private int readLength(int major) {
+        long length = readHead(major);
+        if (length < 0 || length > data.length - position) {
+            throw new MalformedJwtException("CBOR length exceeds input.");
+        }
+        return (int) length;
+    }
+
+    /**
+     * major type 을 확인하고 값(또는 길이) 읽기
+     * 8 byte 값은 부호 없는 값이므로 음수로 반환될 수 있다
+     * @param major
+     * @return
+     */
+    private long readHead(int major) {
+        require(1);
+        int initial = data[position] & 0xFF;
+        if (initial >>> 5 != major) {
+            throw new MalformedJwtException("Unexpected CBOR major type: " + (initial >>> 5));
+        }
+        position++;
+        int info = initial & 0x1F;
+        if (info < 24) {
+            return info;
+        }
+        int length;
+        switch (info) {
+            case 24:
+                length = 1;
+                break;
+            case 25:
+                length = 2;
+                break;
+            case 26:
+                length = 4;
+                break;
+            case 27:
+                length = 8;
+                break;
+            default:
+                throw new MalformedJwtException("Unsupported CBOR additional information: " + info);
+        }
+        require(length);
+        long value = 0L;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int length) {
+        if (length > data.length - position) {
+            throw new MalformedJwtException("Unexpected end of CBOR input.");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CWT 토큰 생성에 필요한 만큼만 구현한 CBOR (RFC 7049) writer
+ * 길이가 정해진 item 만 쓰며, 정수는 항상 가장 짧은 형태로 인코딩한다
+ */
+final class CborWriter {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    static final int MAJOR_UNSIGNED = 0;
+
+    static final int MAJOR_NEGATIVE = 1;
+
+    static final int MAJOR_BYTES = 2;
+
+    static final int MAJOR_TEXT = 3;
+
+    static final int MAJOR_ARRAY = 4;
+
+    static final int MAJOR_MAP = 5;
+
+    static final int MAJOR_TAG = 6;
+
+    static final int MAJOR_SIMPLE = 7;
+
+    static final int SIMPLE_FALSE = 20;
+
+    static final int SIMPLE_TRUE = 21;
+
+    static final int SIMPLE_NULL = 22;
+
+    private byte[] buffer;
+
+    private int size;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    CborWriter(int capacity) {
+        this.buffer = new byte[Math.max(16, capacity)];
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    CborWriter writeInt(long value) {
+        return value < 0 ? head(MAJOR_NEGATIVE, -1L - value) : head(MAJOR_UNSIGNED, value);
+    }
+
+    CborWriter writeBytes(byte[] value) {
+        head(MAJOR_BYTES, value.length);
+        return append(value);
+    }
+
+    CborWriter writeText(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        head(MAJOR_TEXT, bytes.length);
+        return append(bytes);
+    }
+
+    CborWriter writeBoolean(boolean value) {
+        return head(MAJOR_SIMPLE, value ? SIMPLE_TRUE : SIMPLE_FALSE);
+    }
+
+    CborWriter writeArray(int length) {
+        return head(MAJOR_ARRAY, length);
+    }
+
+    CborWriter writeMap(int entries) {
+        return head(MAJOR_MAP, entries);
+    }
+
+    CborWriter writeTag(long tag) {
+        return head(MAJOR_TAG, tag);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * major type 과 값(또는 길이)을 가장 짧은 형태로 쓰기
+     * @param major
+     * @param value 0 이상
+     * @return
+     */
+    private CborWriter head(int major, long value) {
+        int type = major << 5;
+        ensure(9);
+        if (value < 24) {
+            buffer[size++] = (byte) (type | value);
+        } else if (value <= 0xFFL) {
+            buffer[size++] = (byte) (type | 24);
+            buffer[size++] = (byte) value;
+        } else if (value <= 0xFFFFL) {
+            buffer[size++] = (byte) (type | 25);
+            putLong(value, 2);
+        } else if (value <= 0xFFFFFFFFL) {
+            buffer[size++] = (byte) (type | 26);
+            putLong(value, 4);
+        } else {
+            buffer[size++] = (byte) (type | 27);
+            putLong(value, 8);
+        }
+        return this;
+    }
+
+    private void putLong(long value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            buffer[size++] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private CborWriter append(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    private void ensure(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+    }
+}
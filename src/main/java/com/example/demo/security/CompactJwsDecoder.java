@@ -0,0 +1,314 @@
+package com.example.demo.security;
+
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.security.crypto.SigningKey;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 서비스 클래임 전용 JWS compact 디코더
+ * - 토큰을 한번만 byte 배열로 변환하고, 서명은 header.payload 구간을 복사 없이 검증한다
+ * - header 가 직접 발급한 형태와 같다면 디코딩하지 않고, 다르다면 alg/kid 만 읽어 검증 key 를 찾는다
+ * - payload 는 Map 을 만들지 않고 streaming parser 로 필요한 클래임만 읽는다
+ * 검증 실패시 jjwt 와 동일한 예외를 던진다
+ */
+public class CompactJwsDecoder {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final KeyRing keyRing;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public CompactJwsDecoder(KeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public KeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 토큰 서명, 만료 검증 후 클래임 반환
+     * @param token
+     * @return
+     */
+    public TokenClaims decode(String token) {
+        return decodePayload(verifiedPayload(token));
+    }
+
+    /**
+     * 서명 검증된 payload 에서 클래임을 읽고 만료, access 토큰 여부 확인
+     * @param payload {@link #verifiedPayload(String)} 결과
+     * @return
+     */
+    public TokenClaims decodePayload(byte[] payload) {
+        TokenClaims claims = readClaims(payload);
+        long expiration = claims.getExpiration();
+        if (0L != expiration && expiration * 1000L < System.currentTimeMillis()) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + claims.getExpirationDate() + ".");
+        }
+        if (!claims.isAccessToken()) {
+            throw new UnsupportedJwtException("JWT is not an access token.");
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 서명 검증 후 디코딩된 payload 반환 (만료는 확인하지 않음)
+     * @param token
+     * @return
+     */
+    public byte[] verifiedPayload(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        int first = indexOf(bytes, 0);
+        int second = first < 0 ? -1 : indexOf(bytes, first + 1);
+        if (second < 0 || indexOf(bytes, second + 1) >= 0) {
+            throw new MalformedJwtException("JWT strings must contain exactly 2 period characters.");
+        }
+        // header
+        SigningKey key = resolveKey(bytes, first);
+        // 서명
+        byte[] signature = decodeSegment(bytes, second + 1, bytes.length - second - 1);
+        if (!key.getSigner().verify(bytes, 0, second, signature)) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+        // payload
+        return decodeSegment(bytes, first + 1, second - first - 1);
+    }
+
+    /**
+     * 서명 검증 없이 payload 의 exp 만 읽기
+     * 만료된 토큰을 서명 검증 전에 거르는 용도로, 검증되지 않은 값이므로 거부에만 사용한다
+     * @param token
+     * @return epoch seconds, 없다면 0
+     */
+    public static long peekExpiration(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        int first = indexOf(bytes, 0);
+        int second = first < 0 ? -1 : indexOf(bytes, first + 1);
+        if (second < 0) {
+            throw new MalformedJwtException("JWT strings must contain exactly 2 period characters.");
+        }
+        try (JsonParser parser = JSON.createParser(decodeSegment(bytes, first + 1, second - first - 1))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new MalformedJwtException("JWT payload is not a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (TokenClaims.EXPIRATION.equals(field)) {
+                    return readSeconds(parser, value);
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new MalformedJwtException("Unable to read JWT payload: " + e.getMessage(), e);
+        }
+        return 0L;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * header 의 alg, kid 로 검증 key 찾기
+     * @param bytes
+     * @param length
+     * @return
+     */
+    private SigningKey resolveKey(byte[] bytes, int length) {
+        // 직접 발급한 header 와 같다면 디코딩 생략
+        for (SigningKey key : keyRing.getKeys()) {
+            if (key.matchesHeader(bytes, length)) {
+                return key;
+            }
+        }
+        String algorithm = null;
+        String keyId = null;
+        try (JsonParser parser = JSON.createParser(decodeSegment(bytes, 0, length))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new MalformedJwtException("JWT header is not a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("alg".equals(field)) {
+                    algorithm = parser.getValueAsString();
+                } else if ("kid".equals(field)) {
+                    keyId = parser.getValueAsString();
+                } else if ("zip".equals(field)) {
+                    throw new UnsupportedJwtException("Compressed JWTs are not supported.");
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new MalformedJwtException("Unable to read JWT header: " + e.getMessage(), e);
+        }
+        SigningKey key = keyRing.find(keyId);
+        if (null == key) {
+            throw new SignatureException("Unknown JWT signing key: " + keyId);
+        }
+        if (!key.getAlgorithm().equals(algorithm)) {
+            throw new UnsupportedJwtException("Unsupported JWT signature algorithm: " + algorithm);
+        }
+        return key;
+    }
+
+    /**
+     * payload 에서 필요한 클래임만 읽기
+     * 짧은 클래임 이름과 기존 이름을 모두 읽는다
+     * @param payload
+     * @return
+     */
+    private static TokenClaims readClaims(byte[] payload) {
+        String subject = null;
+        String tokenId = null;
+        String id = null;
+        String email = null;
+        String name = null;
+        Boolean adminFlag = null;
+        long issuedAt = 0L;
+        long expiration = 0L;
+        try (JsonParser parser = JSON.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new MalformedJwtException("JWT payload is not a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case TokenClaims.SUBJECT:
+                        subject = readText(parser, value);
+                        break;
+                    case TokenClaims.TOKEN_ID:
+                        tokenId = readText(parser, value);
+                        break;
+                    case TokenClaims.LEGACY_ID:
+                        id = readText(parser, value);
+                        break;
+                    case TokenClaims.EMAIL:
+                    case TokenClaims.LEGACY_EMAIL:
+                        email = readText(parser, value);
+                        break;
+                    case TokenClaims.NAME:
+                    case TokenClaims.LEGACY_NAME:
+                        name = readText(parser, value);
+                        break;
+                    case TokenClaims.ADMIN_FLAG:
+                    case TokenClaims.LEGACY_ADMIN_FLAG:
+                        adminFlag = readBoolean(value);
+                        break;
+                    case TokenClaims.ISSUED_AT:
+                        issuedAt = readSeconds(parser, value);
+                        break;
+                    case TokenClaims.EXPIRATION:
+                        expiration = readSeconds(parser, value);
+                        break;
+                    default:
+                        // 사용하지 않는 클래임 (기존 토큰의 refresh_token 등)
+                        parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new MalformedJwtException("JWT payload is not a JSON object.");
+            }
+        } catch (IOException e) {
+            throw new MalformedJwtException("Unable to read JWT payload: " + e.getMessage(), e);
+        }
+        // 기존 토큰은 user id 를 id 클래임에, 새 토큰은 sub 에 담는다
+        return new TokenClaims(subject, tokenId, null == id ? subject : id, email, name, adminFlag, issuedAt, expiration);
+    }
+
+    private static String readText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            throw new MalformedJwtException("Unexpected JWT claim type: " + value);
+        }
+        return parser.getText();
+    }
+
+    private static Boolean readBoolean(JsonToken value) {
+        switch (value) {
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new MalformedJwtException("Unexpected JWT claim type: " + value);
+        }
+    }
+
+    private static long readSeconds(JsonParser parser, JsonToken value) throws IOException {
+        switch (value) {
+            case VALUE_NUMBER_INT:
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return (long) parser.getDoubleValue();
+            case VALUE_NULL:
+                return 0L;
+            default:
+                throw new MalformedJwtException("Unexpected JWT claim type: " + value);
+        }
+    }
+
+    private static byte[] decodeSegment(byte[] bytes, int offset, int length) {
+        try {
+            ByteBuffer buffer = DECODER.decode(ByteBuffer.wrap(bytes, offset, length));
+            byte[] array = buffer.array();
+            if (buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == array.length) {
+                return array;
+            }
+            byte[] result = new byte[buffer.remaining()];
+            buffer.get(result);
+            return result;
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Invalid Base64url segment.", e);
+        }
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
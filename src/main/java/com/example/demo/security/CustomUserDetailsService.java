@@ -22,6 +22,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthMetrics authMetrics;
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Public Variables
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -56,12 +59,17 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Transactional
     public UserDetails loadUserByUsername(String userId)
             throws UsernameNotFoundException {
-        User user = userRepository.findById(userId);
-
-        if (user == null) {
-            throw new UsernameNotFoundException(String.format("No user found with userId '%s'.", userId));
-        } else {
-            return JwtUserFactory.create(user);
+        long start = System.nanoTime();
+        try {
+            User user = userRepository.findById(userId);
+
+            if (user == null) {
+                throw new UsernameNotFoundException(String.format("No user found with userId '%s'.", userId));
+            } else {
+                return JwtUserFactory.create(user);
+            }
+        } finally {
+            authMetrics.record(AuthMetrics.Stage.USER_DETAILS, start);
         }
     }
 
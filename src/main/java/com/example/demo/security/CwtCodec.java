@@ -0,0 +1,412 @@
+package com.example.demo.security;
+
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.security.crypto.SigningKey;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * CBOR 바이너리 토큰 (CWT, RFC 8392 형식) 생성/검증
+ * - 토큰은 COSE_Mac0 (HMAC) 또는 COSE_Sign1 (ES256, RS256, EdDSA) 구조를 base64url 로 인코딩한 문자열이다
+ * - 서명 대상은 COSE 의 MAC_structure / Sig_structure ([context, protected, h'', payload])
+ * - 클래임 : sub(2), exp(4), iat(6), cti(7) 는 CWT 정수 key, 서비스 클래임은 JWS 와 같은 짧은 문자열 key
+ * JWS 에 비해 header 가 작고 숫자/boolean/jti 가 바이너리로 들어가 토큰이 짧아진다
+ * 검증 실패시 CompactJwsDecoder 와 동일한 예외를 던진다
+ */
+public class CwtCodec {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // COSE tag
+    private static final int TAG_MAC0 = 17;
+    private static final int TAG_SIGN1 = 18;
+    private static final int TAG_CWT = 61;
+
+    // COSE header label
+    private static final int HEADER_ALG = 1;
+    private static final int HEADER_KID = 4;
+
+    // CWT 클래임 key
+    private static final int CLAIM_SUB = 2;
+    private static final int CLAIM_EXP = 4;
+    private static final int CLAIM_IAT = 6;
+    private static final int CLAIM_CTI = 7;
+
+    private final KeyRing keyRing;
+
+    // key 별 protected header (미리 인코딩)
+    private final Map<SigningKey, byte[]> protectedHeaders = new IdentityHashMap<>();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public CwtCodec(KeyRing keyRing) {
+        this.keyRing = keyRing;
+        for (SigningKey key : keyRing.getKeys()) {
+            Integer algorithm = coseAlgorithm(key.getAlgorithm());
+            if (null == algorithm) {
+                continue;
+            }
+            CborWriter header = new CborWriter(32);
+            header.writeMap(null == key.getKeyId() ? 1 : 2);
+            header.writeInt(HEADER_ALG).writeInt(algorithm);
+            if (null != key.getKeyId()) {
+                header.writeInt(HEADER_KID).writeBytes(key.getKeyId().getBytes(StandardCharsets.UTF_8));
+            }
+            protectedHeaders.put(key, header.toByteArray());
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public KeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 클래임을 현재 active key 로 서명하여 토큰 생성
+     * @param claims jti 는 base64url 문자열이어야 한다
+     * @return
+     */
+    public String encode(TokenClaims claims) {
+        SigningKey key = keyRing.getActiveKey();
+        byte[] protectedHeader = protectedHeaders.get(key);
+        if (null == protectedHeader) {
+            throw new IllegalStateException("CWT does not support algorithm: " + key.getAlgorithm());
+        }
+        byte[] payload = writeClaims(claims);
+        boolean mac = isMac(key);
+        byte[] signature = key.getSigner().sign(toBeSigned(mac, protectedHeader, payload));
+
+        CborWriter token = new CborWriter(protectedHeader.length + payload.length + signature.length + 16);
+        token.writeTag(mac ? TAG_MAC0 : TAG_SIGN1)
+                .writeArray(4)
+                .writeBytes(protectedHeader)
+                .writeMap(0)
+                .writeBytes(payload)
+                .writeBytes(signature);
+        return ENCODER.encodeToString(token.toByteArray());
+    }
+
+    /**
+     * 토큰 서명, 만료 검증 후 클래임 반환
+     * @param token
+     * @return
+     */
+    public TokenClaims decode(String token) {
+        return decodePayload(verifiedPayload(token));
+    }
+
+    /**
+     * 서명 검증된 payload 에서 클래임을 읽고 만료, access 토큰 여부 확인
+     * @param payload {@link #verifiedPayload(String)} 결과
+     * @return
+     */
+    public TokenClaims decodePayload(byte[] payload) {
+        TokenClaims claims = readClaims(payload);
+        long expiration = claims.getExpiration();
+        if (0L != expiration && expiration * 1000L < System.currentTimeMillis()) {
+            throw new ExpiredJwtException(null, null, "CWT expired at " + claims.getExpirationDate() + ".");
+        }
+        if (!claims.isAccessToken()) {
+            throw new UnsupportedJwtException("CWT is not an access token.");
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 서명 검증 후 payload (CBOR 클래임 map) 반환 (만료는 확인하지 않음)
+     * @param token
+     * @return
+     */
+    public byte[] verifiedPayload(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("CWT String argument cannot be null or empty.");
+        }
+        CborReader reader = new CborReader(decodeToken(token));
+        long tag = -1L;
+        if (reader.peekMajor() == CborWriter.MAJOR_TAG) {
+            tag = reader.readTag();
+            if (tag == TAG_CWT && reader.peekMajor() == CborWriter.MAJOR_TAG) {
+                tag = reader.readTag();
+            }
+            if (tag != TAG_MAC0 && tag != TAG_SIGN1) {
+                throw new UnsupportedJwtException("Unsupported COSE tag: " + tag);
+            }
+        }
+        if (reader.readArray() != 4) {
+            throw new MalformedJwtException("COSE message must contain 4 elements.");
+        }
+        byte[] protectedHeader = reader.readBytes();
+        reader.skip();
+        byte[] payload = reader.readBytes();
+        byte[] signature = reader.readBytes();
+        if (!reader.isFinished()) {
+            throw new MalformedJwtException("Unexpected data after COSE message.");
+        }
+
+        SigningKey key = resolveKey(protectedHeader);
+        boolean mac = isMac(key);
+        if (-1L != tag && tag != (mac ? TAG_MAC0 : TAG_SIGN1)) {
+            throw new UnsupportedJwtException("COSE tag does not match signing algorithm: " + tag);
+        }
+        if (!key.getSigner().verify(toBeSigned(mac, protectedHeader, payload), signature)) {
+            throw new SignatureException("CWT signature does not match locally computed signature.");
+        }
+        return payload;
+    }
+
+    /**
+     * 서명 검증 없이 클래임의 exp 만 읽기
+     * 만료된 토큰을 서명 검증 전에 거르는 용도로, 검증되지 않은 값이므로 거부에만 사용한다
+     * @param token
+     * @return epoch seconds, 없다면 0
+     */
+    public static long peekExpiration(String token) {
+        CborReader reader = new CborReader(decodeToken(token));
+        while (reader.peekMajor() == CborWriter.MAJOR_TAG) {
+            reader.readTag();
+        }
+        if (reader.readArray() != 4) {
+            throw new MalformedJwtException("COSE message must contain 4 elements.");
+        }
+        reader.skip();
+        reader.skip();
+        CborReader claims = new CborReader(reader.readBytes());
+        for (int i = claims.readMap(); i > 0; i--) {
+            int major = claims.peekMajor();
+            if (major != CborWriter.MAJOR_UNSIGNED && major != CborWriter.MAJOR_NEGATIVE) {
+                claims.skip();
+                claims.skip();
+                continue;
+            }
+            if (claims.readInt() == CLAIM_EXP) {
+                return claims.skipNull() ? 0L : claims.readInt();
+            }
+            claims.skip();
+        }
+        return 0L;
+    }
+
+    /**
+     * JWS 알고리즘 이름에 해당하는 COSE 알고리즘 (RFC 8152)
+     * @param algorithm
+     * @return 지원하지 않는다면 null
+     */
+    public static Integer coseAlgorithm(String algorithm) {
+        switch (algorithm) {
+            case "HS256":
+                return 5;
+            case "HS384":
+                return 6;
+            case "HS512":
+                return 7;
+            case "ES256":
+                return -7;
+            case "EdDSA":
+                return -8;
+            case "RS256":
+                return -257;
+            default:
+                return null;
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static byte[] decodeToken(String token) {
+        try {
+            return DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Invalid Base64url CWT.", e);
+        }
+    }
+
+    /**
+     * protected header 의 alg, kid 로 검증 key 찾기
+     * @param protectedHeader
+     * @return
+     */
+    private SigningKey resolveKey(byte[] protectedHeader) {
+        // 직접 발급한 header 와 같다면 디코딩 생략
+        for (Map.Entry<SigningKey, byte[]> entry : protectedHeaders.entrySet()) {
+            if (Arrays.equals(entry.getValue(), protectedHeader)) {
+                return entry.getKey();
+            }
+        }
+        Long algorithm = null;
+        String keyId = null;
+        CborReader reader = new CborReader(protectedHeader);
+        for (int i = reader.readMap(); i > 0; i--) {
+            int major = reader.peekMajor();
+            if (major != CborWriter.MAJOR_UNSIGNED && major != CborWriter.MAJOR_NEGATIVE) {
+                // 문자열 label 등은 사용하지 않음
+                reader.skip();
+                reader.skip();
+                continue;
+            }
+            long label = reader.readInt();
+            if (label == HEADER_ALG) {
+                algorithm = reader.readInt();
+            } else if (label == HEADER_KID) {
+                keyId = new String(reader.readBytes(), StandardCharsets.UTF_8);
+            } else {
+                reader.skip();
+            }
+        }
+        SigningKey key = keyRing.find(keyId);
+        if (null == key) {
+            throw new SignatureException("Unknown CWT signing key: " + keyId);
+        }
+        Integer expected = coseAlgorithm(key.getAlgorithm());
+        if (null == expected || null == algorithm || expected.longValue() != algorithm) {
+            throw new UnsupportedJwtException("Unsupported COSE algorithm: " + algorithm);
+        }
+        return key;
+    }
+
+    /**
+     * 클래임 map 인코딩 (null 인 클래임은 넣지 않음)
+     * @param claims
+     * @return
+     */
+    private static byte[] writeClaims(TokenClaims claims) {
+        int entries = (null == claims.getId() ? 0 : 1)
+                + (0L == claims.getExpiration() ? 0 : 1)
+                + (0L == claims.getIssuedAt() ? 0 : 1)
+                + (null == claims.getTokenId() ? 0 : 1)
+                + (null == claims.getEmail() ? 0 : 1)
+                + (null == claims.getName() ? 0 : 1)
+                + (null == claims.getAdminFlag() ? 0 : 1);
+        CborWriter writer = new CborWriter(128);
+        writer.writeMap(entries);
+        if (null != claims.getId()) {
+            writer.writeInt(CLAIM_SUB).writeText(claims.getId());
+        }
+        if (0L != claims.getExpiration()) {
+            writer.writeInt(CLAIM_EXP).writeInt(claims.getExpiration());
+        }
+        if (0L != claims.getIssuedAt()) {
+            writer.writeInt(CLAIM_IAT).writeInt(claims.getIssuedAt());
+        }
+        if (null != claims.getTokenId()) {
+            writer.writeInt(CLAIM_CTI).writeBytes(DECODER.decode(claims.getTokenId()));
+        }
+        if (null != claims.getEmail()) {
+            writer.writeText(TokenClaims.EMAIL).writeText(claims.getEmail());
+        }
+        if (null != claims.getName()) {
+            writer.writeText(TokenClaims.NAME).writeText(claims.getName());
+        }
+        if (null != claims.getAdminFlag()) {
+            writer.writeText(TokenClaims.ADMIN_FLAG).writeBoolean(claims.getAdminFlag());
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * 클래임 map 에서 필요한 클래임만 읽기
+     * @param payload
+     * @return
+     */
+    private static TokenClaims readClaims(byte[] payload) {
+        String subject = null;
+        String tokenId = null;
+        String email = null;
+        String name = null;
+        Boolean adminFlag = null;
+        long issuedAt = 0L;
+        long expiration = 0L;
+        CborReader reader = new CborReader(payload);
+        for (int i = reader.readMap(); i > 0; i--) {
+            int major = reader.peekMajor();
+            if (major == CborWriter.MAJOR_UNSIGNED || major == CborWriter.MAJOR_NEGATIVE) {
+                long key = reader.readInt();
+                if (reader.skipNull()) {
+                    continue;
+                }
+                if (key == CLAIM_SUB) {
+                    subject = reader.readText();
+                } else if (key == CLAIM_EXP) {
+                    expiration = reader.readInt();
+                } else if (key == CLAIM_IAT) {
+                    issuedAt = reader.readInt();
+                } else if (key == CLAIM_CTI) {
+                    tokenId = ENCODER.encodeToString(reader.readBytes());
+                } else {
+                    reader.skip();
+                }
+            } else if (major == CborWriter.MAJOR_TEXT) {
+                String key = reader.readText();
+                if (reader.skipNull()) {
+                    continue;
+                }
+                switch (key) {
+                    case TokenClaims.EMAIL:
+                        email = reader.readText();
+                        break;
+                    case TokenClaims.NAME:
+                        name = reader.readText();
+                        break;
+                    case TokenClaims.ADMIN_FLAG:
+                        adminFlag = reader.readBoolean();
+                        break;
+                    default:
+                        reader.skip();
+                }
+            } else {
+                reader.skip();
+                reader.skip();
+            }
+        }
+        if (!reader.isFinished()) {
+            throw new MalformedJwtException("Unexpected data after CWT claims.");
+        }
+        return new TokenClaims(subject, tokenId, subject, email, name, adminFlag, issuedAt, expiration);
+    }
+
+    /**
+     * COSE MAC_structure / Sig_structure 인코딩
+     * @param mac
+     * @param protectedHeader
+     * @param payload
+     * @return
+     */
+    private static byte[] toBeSigned(boolean mac, byte[] protectedHeader, byte[] payload) {
+        return new CborWriter(protectedHeader.length + payload.length + 24)
+                .writeArray(4)
+                .writeText(mac ? "MAC0" : "Signature1")
+                .writeBytes(protectedHeader)
+                .writeBytes(new byte[0])
+                .writeBytes(payload)
+                .toByteArray();
+    }
+
+    private static boolean isMac(SigningKey key) {
+        return key.getAlgorithm().startsWith("HS");
+    }
+}
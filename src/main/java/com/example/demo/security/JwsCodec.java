@@ -0,0 +1,229 @@
+package com.example.demo.security;
+
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.security.crypto.SigningKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * JWS compact 형식 토큰 생성/검증
+ * 서명은 현재 active key 로 하고, 검증은 header 의 kid 에 해당하는 key 로 한다
+ * jwt.format=CWT 라면 CBOR 바이너리 토큰으로 발급하며, 검증은 '.' 유무로 형식을 구분하여 두 형식 모두 허용한다
+ * 검증 실패시 jjwt 와 동일한 예외를 던진다
+ */
+@Component
+public class JwsCodec {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // spring 의 ObjectMapper 는 날짜를 문자열로 직렬화하므로 별도로 사용
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // 발급 형식
+    @Value("${jwt.format:JWS}")
+    private TokenFormat format;
+
+    @Autowired
+    private SigningKeyProvider signingKeyProvider;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    // 현재 KeyRing 의 디코더 (key 가 교체되면 새로 생성)
+    private volatile CompactJwsDecoder decoder;
+
+    private volatile CwtCodec cwtCodec;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 서비스 클래임으로 설정된 형식의 토큰 생성
+     * JWS 라면 짧은 클래임 이름을 사용하며 user id 는 sub 에 담는다
+     * @param claims
+     * @return
+     */
+    public String encode(TokenClaims claims) {
+        if (TokenFormat.CWT == format) {
+            long start = System.nanoTime();
+            try {
+                return cwtCodec().encode(claims);
+            } finally {
+                authMetrics.record(AuthMetrics.Stage.SIGN, start);
+            }
+        }
+        Claims jws = Jwts.claims();
+        jws.setSubject(claims.getId());
+        jws.put(TokenClaims.EMAIL, claims.getEmail());
+        jws.put(TokenClaims.NAME, claims.getName());
+        jws.put(TokenClaims.ADMIN_FLAG, claims.getAdminFlag());
+        jws.setId(claims.getTokenId());
+        jws.setIssuedAt(claims.getIssuedAtDate());
+        jws.setExpiration(claims.getExpirationDate());
+        return encode(jws);
+    }
+
+    /**
+     * 클래임을 서명하여 JWS 토큰 생성
+     * @param claims
+     * @return
+     */
+    public String encode(Claims claims) {
+        SigningKey key = signingKeyProvider.current().getActiveKey();
+        long start = System.nanoTime();
+        try {
+            String content = key.getEncodedHeader() + '.' + ENCODER.encodeToString(MAPPER.writeValueAsBytes(claims));
+            byte[] signature = key.getSigner().sign(content.getBytes(StandardCharsets.US_ASCII));
+            return content + '.' + ENCODER.encodeToString(signature);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize JWT claims.", e);
+        } finally {
+            authMetrics.record(AuthMetrics.Stage.SIGN, start);
+        }
+    }
+
+    /**
+     * 토큰 서명, 만료 검증 후 서비스에서 사용하는 클래임만 반환
+     * 인증 처리(hot path)에서 사용
+     * @param token
+     * @return
+     */
+    public TokenClaims decodeClaims(String token) {
+        if (isCwt(token)) {
+            return decodeCwtClaims(token);
+        }
+        CompactJwsDecoder decoder = decoder();
+        byte[] payload;
+        long start = System.nanoTime();
+        try {
+            payload = decoder.verifiedPayload(token);
+        } finally {
+            authMetrics.record(AuthMetrics.Stage.SIGNATURE, start);
+        }
+        start = System.nanoTime();
+        try {
+            return decoder.decodePayload(payload);
+        } finally {
+            authMetrics.record(AuthMetrics.Stage.CLAIMS, start);
+        }
+    }
+
+    /**
+     * 토큰 서명, 만료 검증 후 전체 클래임 반환
+     * @param token
+     * @return
+     */
+    public Claims decode(String token) {
+        if (isCwt(token)) {
+            return toClaims(cwtCodec().decode(token));
+        }
+        Claims claims = new DefaultClaims(readJson(decoder().verifiedPayload(token)));
+        Date expiration = claims.getExpiration();
+        if (null != expiration && expiration.getTime() < System.currentTimeMillis()) {
+            throw new ExpiredJwtException(null, claims, "JWT expired at " + expiration + ".");
+        }
+        return claims;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private CompactJwsDecoder decoder() {
+        KeyRing keyRing = signingKeyProvider.current();
+        CompactJwsDecoder current = decoder;
+        if (null == current || current.getKeyRing() != keyRing) {
+            current = new CompactJwsDecoder(keyRing);
+            decoder = current;
+        }
+        return current;
+    }
+
+    private CwtCodec cwtCodec() {
+        KeyRing keyRing = signingKeyProvider.current();
+        CwtCodec current = cwtCodec;
+        if (null == current || current.getKeyRing() != keyRing) {
+            current = new CwtCodec(keyRing);
+            cwtCodec = current;
+        }
+        return current;
+    }
+
+    private TokenClaims decodeCwtClaims(String token) {
+        CwtCodec codec = cwtCodec();
+        byte[] payload;
+        long start = System.nanoTime();
+        try {
+            payload = codec.verifiedPayload(token);
+        } finally {
+            authMetrics.record(AuthMetrics.Stage.SIGNATURE, start);
+        }
+        start = System.nanoTime();
+        try {
+            return codec.decodePayload(payload);
+        } finally {
+            authMetrics.record(AuthMetrics.Stage.CLAIMS, start);
+        }
+    }
+
+    /**
+     * JWS compact 는 '.' 을 포함하고 CWT 는 포함하지 않는다
+     * @param token
+     * @return
+     */
+    private static boolean isCwt(String token) {
+        return StringUtils.hasText(token) && token.indexOf('.') < 0;
+    }
+
+    /**
+     * CWT 클래임을 JWS 와 같은 이름의 Claims 로 변환
+     * @param tokenClaims
+     * @return
+     */
+    private static Claims toClaims(TokenClaims tokenClaims) {
+        Claims claims = Jwts.claims();
+        claims.setSubject(tokenClaims.getSubject());
+        claims.setId(tokenClaims.getTokenId());
+        claims.put(TokenClaims.EMAIL, tokenClaims.getEmail());
+        claims.put(TokenClaims.NAME, tokenClaims.getName());
+        claims.put(TokenClaims.ADMIN_FLAG, tokenClaims.getAdminFlag());
+        claims.setIssuedAt(tokenClaims.getIssuedAtDate());
+        claims.setExpiration(tokenClaims.getExpirationDate());
+        return claims;
+    }
+
+    private static Map<String, Object> readJson(byte[] payload) {
+        try {
+            Map<String, Object> value = MAPPER.readValue(payload, MAP_TYPE);
+            if (null == value) {
+                throw new MalformedJwtException("JWT payload is not a JSON object.");
+            }
+            return value;
+        } catch (IOException e) {
+            throw new MalformedJwtException("Unable to read JSON value: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 인증은 되었지만 권한이 없는 요청 (@PreAuthorize 실패 등) 에 403 응답
+ * 기본 handler 의 sendError 대신 미리 직렬화한 응답을 바로 쓴다
+ */
+@Component
+public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAccessDeniedHandler.class);
+
+    private static final PreparedErrorResponse FORBIDDEN = new PreparedErrorResponse(
+            HttpServletResponse.SC_FORBIDDEN, "FORBIDDEN", "Bearer error=\"insufficient_scope\"");
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public void handle(HttpServletRequest httpServletRequest,
+                       HttpServletResponse httpServletResponse,
+                       AccessDeniedException e) throws IOException, ServletException {
+        logger.debug("Responding with forbidden error. Message - {}", e.getMessage());
+        FORBIDDEN.write(httpServletResponse);
+    }
+}
@@ -21,6 +21,9 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationEntryPoint.class);
 
+    private static final PreparedErrorResponse UNAUTHORIZED = new PreparedErrorResponse(
+            HttpServletResponse.SC_UNAUTHORIZED, "UNAUTHORIZED", "Bearer");
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Public Variables
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -49,10 +52,10 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     public void commence(HttpServletRequest httpServletRequest,
                          HttpServletResponse httpServletResponse,
                          AuthenticationException e) throws IOException, ServletException {
-        logger.error("Responding with unauthorized error. Message - {}", e.getMessage());
+        logger.debug("Responding with unauthorized error. Message - {}", e.getMessage());
         // filter에서 access denied 당했을 경우 권한없음 401 에러 내려주기
-        httpServletResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED,
-                "UNAUTHORIZED");
+        // sendError 는 /error 로 다시 dispatch 되므로 미리 직렬화한 응답을 바로 쓴다
+        UNAUTHORIZED.write(httpServletResponse);
     }
 
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
@@ -2,6 +2,7 @@ package com.example.demo.security;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -16,6 +17,7 @@ import java.io.IOException;
 /**
  * JWT 인증 프로세스의 시작점
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -27,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenUtil jwtTokenUtil;
+    private final AuthMetrics authMetrics;
 
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Public Variables
@@ -36,9 +39,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     | Constructor
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
-    public JwtAuthenticationFilter(CustomUserDetailsService userDetailsService, JwtTokenUtil jwtTokenUtil) {
+    public JwtAuthenticationFilter(CustomUserDetailsService userDetailsService, JwtTokenUtil jwtTokenUtil,
+                                   AuthMetrics authMetrics) {
         this.userDetailsService = userDetailsService;
         this.jwtTokenUtil = jwtTokenUtil;
+        this.authMetrics = authMetrics;
 
     }
 
@@ -61,12 +66,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        long start = System.nanoTime();
         String token = jwtTokenUtil.getJwtFromToken(request.getHeader("Authorization"));
-        // 토큰이 있고 validation 이 정상적으로 넘어갈 경우
-        if (StringUtils.hasText(token) && this.jwtTokenUtil.validateToken(token)) {
-            Authentication authentication = this.jwtTokenUtil.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            // 토큰 파싱/검증은 요청당 한번만 수행
+            VerifiedToken verifiedToken = this.jwtTokenUtil.verifyToken(token);
+            // validation 이 정상적으로 넘어갈 경우
+            if (verifiedToken.isValid()) {
+                Authentication authentication = this.jwtTokenUtil.getAuthentication(verifiedToken);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // controller 에서 재사용할 수 있도록 저장
+                request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verifiedToken);
+            }
         }
+        // 인증 처리 시간 (이후 filter/controller 제외)
+        authMetrics.record(AuthMetrics.Stage.FILTER, start);
 
         chain.doFilter(request, response);
     }
@@ -1,6 +1,10 @@
 package com.example.demo.security;
 
 import com.example.demo.domain.User;
+import com.example.demo.invalidation.InvalidationBus;
+import com.example.demo.payload.JwtAuthenticationResponse;
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.service.RefreshTokenService;
 import com.example.demo.service.UserService;
 import io.jsonwebtoken.*;
 import org.slf4j.Logger;
@@ -14,9 +18,12 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -31,18 +38,48 @@ public class JwtTokenUtil {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
 
     @Value("${jwt.expirationTime}")
     private Long expirationTime;
 
-    @Value("${jwt.refreshExpirationTime}")
-    private Long refreshExpirationTime;
+    // principal 생성 방식 (DATABASE, CLAIMS)
+    @Value("${jwt.authentication.mode:DATABASE}")
+    private AuthenticationMode authenticationMode;
 
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JwsCodec jwsCodec;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private TokenPrefilter tokenPrefilter;
+
+    @Autowired
+    private TokenRejectionLog tokenRejectionLog;
+
+    @Autowired
+    private SigninUserCache signinUserCache;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Public Variables
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -55,6 +92,10 @@ public class JwtTokenUtil {
     | Getter & Setter Method ( DI Method )
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
+    public AuthenticationMode getAuthenticationMode() {
+        return authenticationMode;
+    }
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Implement Method
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -68,63 +109,49 @@ public class JwtTokenUtil {
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
     /**
-     * access 토큰 생성
+     * access 토큰, refresh 토큰 발급
+     * refresh 토큰은 access 토큰에 넣지 않고 응답에 따로 담는다 (매 요청의 Authorization header 크기 감소)
+     * 로그인마다 새 jti 로 서명하므로 같은 사용자의 여러 기기가 토큰을 공유하지 않는다
      * @param userEmail
      * @return
      */
-    public String generateToken(String userEmail) {
-        // 현재 시간
-        Date now = new Date();
-        // 유저 정보 조회
-        User user = userService.getUserByEmail(userEmail);
-        // 토큰 정보
-        Claims claims = Jwts.claims();
-        claims.put("email", user.getEmail());
-        claims.put("name", user.getName());
-        claims.put("adminFl", user.getAdminFlag());
-        claims.put("id", user.getId());
-        // refresh token
-        claims.put("refresh_token", generateRefreshToken(user, now));
-        // token
-        String token = Jwts.builder()
-                // 토큰 이름 설정
-                .setSubject("access_token")
-                // JWT token에 내려줄 정보 설정
-                .setClaims(claims)
-                // token이 발급된 시간
-                .setIssuedAt(new Date())
-                // token 만료시간
-                .setExpiration(new Date(now.getTime() + expirationTime))
-                // token 암호화
-                .signWith(SignatureAlgorithm.HS512, secretKey)
-                .compact();
-        return token;
+    public JwtAuthenticationResponse generateToken(String userEmail) {
+        // 짧은 시간 안에 다시 로그인했다면 사용자 조회 생략
+        User user = signinUserCache.get(userEmail);
+        if (null == user) {
+            long cpuStart = signinUserCache.cpuTime();
+            user = userService.getUserByEmail(userEmail);
+            signinUserCache.put(userEmail, user, cpuStart);
+        }
+        return new JwtAuthenticationResponse(generateToken(user), refreshTokenService.issue(user.getId()));
     }
 
     /**
-     * refresh 토큰 생성
+     * refresh 토큰 없이 access 토큰만 생성 (일괄 발급용)
+     * 이미 조회된 사용자로 서명만 하므로 여러 thread 에서 동시에 호출할 수 있다
      * @param user
-     * @param now
      * @return
      */
-    private String generateRefreshToken(User user, Date now) {
-        // refresh token 생성
-        Claims claims = Jwts.claims();
-        claims.put("email", user.getEmail());
-        claims.put("id", user.getId());
-        // 토큰에 리프레시 토큰 정보 추가
-        return Jwts.builder()
-                // 토큰 이름 설정
-                .setSubject("refresh_token")
-                // JWT token에 내려줄 정보 설정
-                .setClaims(claims)
-                // token이 발급된 시간
-                .setIssuedAt(now)
-                // token 만료시간
-                .setExpiration(new Date(now.getTime() + refreshExpirationTime))
-                // token 암호화
-                .signWith(SignatureAlgorithm.HS512, secretKey)
-                .compact();
+    public String generateAccessToken(User user) {
+        return generateToken(user);
+    }
+
+    /**
+     * refresh 토큰으로 access 토큰 재발급
+     * refresh 토큰도 새 토큰으로 교체되어 응답에 담긴다
+     * @param refreshToken
+     * @return 유효하지 않거나 재사용된 refresh 토큰이라면 null
+     */
+    public JwtAuthenticationResponse refreshToken(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        if (null == rotation) {
+            return null;
+        }
+        User user = userService.getUserById(rotation.getUserId());
+        if (null == user) {
+            return null;
+        }
+        return new JwtAuthenticationResponse(generateToken(user), rotation.getRefreshToken());
     }
 
     /**
@@ -145,7 +172,7 @@ public class JwtTokenUtil {
      * @return
      */
     public String getUserIdFromToken(String token) {
-        return (String) getAllClaimsFromToken(token).get("id");
+        return jwsCodec.decodeClaims(token).getId();
     }
 
     /**
@@ -154,26 +181,43 @@ public class JwtTokenUtil {
      * @return
      */
     public Boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
-        } catch (SignatureException e) {
-            log.info("Invalid JWT signature.");
-            log.trace("Invalid JWT signature trace: {}", e);
-        } catch (MalformedJwtException e) {
-            log.info("Invalid JWT token.");
-            log.trace("Invalid JWT token trace: {}", e);
-        } catch (ExpiredJwtException e) {
-            log.info("Expired JWT token.");
-            log.trace("Expired JWT token trace: {}", e);
-        } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT token.");
-            log.trace("Unsupported JWT token trace: {}", e);
-        } catch (IllegalArgumentException e) {
-            log.info("JWT token compact of handler are invalid.");
-            log.trace("JWT token compact of handler are invalid trace: {}", e);
+        return verifyToken(token).isValid();
+    }
+
+    /**
+     * 토큰 파싱 및 검증
+     * 파싱은 한번만 수행하고 결과(클래임, 검증 상태)를 그대로 재사용한다
+     * @param token
+     * @return
+     */
+    public VerifiedToken verifyToken(String token) {
+        long start = System.nanoTime();
+        VerifiedToken verifiedToken = parseToken(token);
+        // 캐시된 토큰도 폐기 여부는 매번 확인 (대부분 Bloom filter 에서 끝남)
+        if (verifiedToken.isValid() && tokenRevocationStore.isRevoked(verifiedToken.getTokenId())) {
+            verifiedToken = reject(token, TokenStatus.REVOKED, null);
+        }
+        authMetrics.record(AuthMetrics.Stage.VERIFY, start);
+        if (!verifiedToken.isValid()) {
+            authMetrics.rejected(verifiedToken.getStatus());
         }
-        return false;
+        return verifiedToken;
+    }
+
+    /**
+     * 토큰 폐기
+     * 만료 전까지 폐기 목록에 남고, 이후 자동으로 제거된다
+     * @param verifiedToken
+     * @return 폐기했다면 true (jti 가 없는 기존 토큰은 폐기 불가)
+     */
+    public boolean revokeToken(VerifiedToken verifiedToken) {
+        if (!verifiedToken.isValid() || null == verifiedToken.getTokenId()) {
+            return false;
+        }
+        // 이 node 에는 바로, 다른 node 에는 비동기로 반영
+        invalidationBus.tokenRevoked(verifiedToken.getTokenId(), verifiedToken.getClaims().getExpiration(),
+                verifiedToken.getEmail());
+        return true;
     }
 
     /**
@@ -182,20 +226,40 @@ public class JwtTokenUtil {
      * @return
      */
     public Authentication getAuthentication(String token) {
-        // 유저 아이디
-        String userId = getUserIdFromJwt(token);
-        // 어드민 여부
-        Boolean adminFl = getUserAdminFlagFromJwt(token);
+        return getAuthentication(verifyToken(token));
+    }
+
+    /**
+     * Get authentication
+     * 이미 검증된 토큰의 클래임을 사용하므로 다시 파싱하지 않는다
+     * @param verifiedToken
+     * @return
+     */
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        long start = System.nanoTime();
+        try {
+            return createAuthentication(verifiedToken);
+        } finally {
+            authMetrics.record(AuthMetrics.Stage.AUTHENTICATION, start);
+        }
+    }
+
+    /**
+     * 이미 조회된 principal 로 Authentication 생성 (DB 조회 없음)
+     * principal 을 직접 조회하는 reactive 인증에서 사용한다
+     * @param verifiedToken
+     * @param principal
+     * @return
+     */
+    public Authentication getAuthentication(VerifiedToken verifiedToken, UserPrincipal principal) {
         // authorities
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
         // admin 이라면
-        if (adminFl) {
+        if (Boolean.TRUE.equals(verifiedToken.getAdminFlag())) {
             authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
         }
-        // 유저 정보
-        User user = userService.getUserById(userId);
-        return new UsernamePasswordAuthenticationToken(user, token, authorities);
+        return new UsernamePasswordAuthenticationToken(principal, verifiedToken.getToken(), authorities);
     }
 
     /**
@@ -204,8 +268,7 @@ public class JwtTokenUtil {
      * @return
      */
     public String getUserIdFromJwt(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return (String) claims.get("id");
+        return jwsCodec.decodeClaims(token).getId();
     }
 
     /**
@@ -214,8 +277,7 @@ public class JwtTokenUtil {
      * @return
      */
     public String getUserEmailFromJWT(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return (String) claims.get("email");
+        return jwsCodec.decodeClaims(token).getEmail();
     }
 
     /**
@@ -224,8 +286,7 @@ public class JwtTokenUtil {
      * @return
      */
     public Boolean getUserAdminFlagFromJwt(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return (Boolean) claims.get("adminFl");
+        return jwsCodec.decodeClaims(token).getAdminFlag();
     }
 
     /**
@@ -262,16 +323,129 @@ public class JwtTokenUtil {
     | Private Method
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
 
+    /**
+     * 서명, 만료 검증 (캐시 우선)
+     * 형식 오류, 최근 거부된 토큰, 만료된 토큰은 서명 검증 전에 거른다
+     * @param token
+     * @return
+     */
+    private VerifiedToken parseToken(String token) {
+        // 형식 검사 (digest, 암호화 연산 전)
+        TokenStatus status = tokenPrefilter.checkShape(token);
+        if (null != status) {
+            return reject(token, status, null);
+        }
+        // 이미 검증된 토큰이라면 암호화 연산 생략
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (null != cached) {
+            return cached;
+        }
+        // 최근 거부된 토큰, 만료된 토큰
+        status = tokenPrefilter.check(token);
+        if (null != status) {
+            return reject(token, status, null);
+        }
+        // 검증 전의 key 목록을 기록 (검증 중 key 가 교체되면 다음 조회에서 다시 검증)
+        KeyRing keyRing = verifiedTokenCache.keyRing();
+        try {
+            VerifiedToken verifiedToken = VerifiedToken.valid(token, jwsCodec.decodeClaims(token));
+            verifiedTokenCache.put(verifiedToken, keyRing);
+            return verifiedToken;
+        } catch (SignatureException e) {
+            return reject(token, TokenStatus.INVALID_SIGNATURE, e);
+        } catch (MalformedJwtException e) {
+            return reject(token, TokenStatus.MALFORMED, e);
+        } catch (ExpiredJwtException e) {
+            return reject(token, TokenStatus.EXPIRED, e);
+        } catch (UnsupportedJwtException e) {
+            return reject(token, TokenStatus.UNSUPPORTED, e);
+        } catch (IllegalArgumentException e) {
+            return reject(token, TokenStatus.EMPTY, e);
+        }
+    }
+
+    /**
+     * 거부 결과 생성
+     * 서명 검증에서 거부되었다면 다음 요청은 사전 검사에서 거르도록 기록한다
+     * @param token
+     * @param status
+     * @param cause 서명 검증에서 발생한 예외, 사전 검사로 거부되었다면 null
+     * @return
+     */
+    private VerifiedToken reject(String token, TokenStatus status, Exception cause) {
+        if (null != cause) {
+            tokenPrefilter.rejected(token, status);
+        }
+        tokenRejectionLog.record(status, cause);
+        return VerifiedToken.rejected(token, status);
+    }
+
+    /**
+     * access 토큰 생성
+     * @param user
+     * @return
+     */
+    private String generateToken(User user) {
+        // 현재 시간 (초)
+        long now = System.currentTimeMillis() / 1000L;
+        // 토큰 정보, token id 는 폐기 확인용
+        TokenClaims claims = new TokenClaims(user.getId(), newTokenId(), user.getId(), user.getEmail(),
+                user.getName(), user.getAdminFlag(), now, now + expirationTime / 1000L);
+        // token 서명 (jwt.format 형식)
+        return jwsCodec.encode(claims);
+    }
+
+    /**
+     * 폐기 확인용 token id (UUID 16 byte 를 base64url 로, 22자)
+     * @return
+     */
+    private static String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        return TOKEN_ID_ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * 검증된 토큰으로 Authentication 생성
+     * @param verifiedToken
+     * @return
+     */
+    private Authentication createAuthentication(VerifiedToken verifiedToken) {
+        // 유저 아이디
+        String userId = verifiedToken.getUserId();
+        // 어드민 여부
+        Boolean adminFl = verifiedToken.getAdminFlag();
+        // 클래임만으로 인증하는 경우 DB 조회 없이 principal 생성
+        if (authenticationMode == AuthenticationMode.CLAIMS) {
+            UserPrincipal principal = JwtUserFactory.create(
+                    userId, verifiedToken.getName(), verifiedToken.getEmail(), adminFl);
+            return new UsernamePasswordAuthenticationToken(principal, verifiedToken.getToken(), principal.getAuthorities());
+        }
+        // 유저 정보 (캐시에 없을 경우에만 DB 조회)
+        UserPrincipal principal = userPrincipalCache.get(userId, this::loadUserPrincipal);
+        return getAuthentication(verifiedToken, principal);
+    }
+
+    /**
+     * DB 에서 사용자 principal 조회
+     * @param userId
+     * @return
+     */
+    private UserPrincipal loadUserPrincipal(String userId) {
+        User user = userService.getUserById(userId);
+        return null == user ? null : JwtUserFactory.create(user);
+    }
+
     /**
      * 토큰의 모든 클래임 얻기
      * @param token
      * @return
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody();
+        return jwsCodec.decode(token);
     }
 
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
@@ -20,13 +20,30 @@ public final class JwtUserFactory {
         );
     }
 
+    /**
+     * 토큰 클래임으로 principal 생성
+     * @param id
+     * @param name
+     * @param email
+     * @param adminFlag
+     * @return
+     */
+    public static UserPrincipal create(String id, String name, String email, Boolean adminFlag) {
+        return new UserPrincipal(
+                id,
+                name,
+                email,
+                mapToGrantedAuthorities(adminFlag)
+        );
+    }
+
     private static List<GrantedAuthority> mapToGrantedAuthorities(Boolean adminFlag) {
         // 권한 목록
         List<GrantedAuthority> authorities = new ArrayList();
         // 유저 권한 추가
         authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
         // 해당 사용자가 어드민이 있다면 어드민 권한 추가
-        if (adminFlag == true) {
+        if (Boolean.TRUE.equals(adminFlag)) {
             authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
         }
         return authorities;
@@ -0,0 +1,79 @@
+package com.example.demo.security;
+
+import com.example.demo.payload.Result;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 미리 직렬화한 인증/인가 실패 응답
+ * sendError 는 컨테이너가 /error 로 다시 dispatch 하여 MVC, Jackson 을 매 요청마다 거치므로
+ * 고정된 body 와 header 를 응답에 바로 쓴다
+ */
+public class PreparedErrorResponse {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_UTF8_VALUE;
+
+    private final int status;
+
+    // WWW-Authenticate, 없다면 null
+    private final String authenticate;
+
+    private final byte[] body;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * @param status
+     * @param message
+     * @param authenticate WWW-Authenticate header 값
+     */
+    public PreparedErrorResponse(int status, String message, String authenticate) {
+        this.status = status;
+        this.authenticate = authenticate;
+        Result result = new Result();
+        result.setCode(status);
+        result.setMessage(message);
+        try {
+            this.body = MAPPER.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 응답 쓰기 (이미 commit 된 응답이라면 무시)
+     * @param response
+     * @throws IOException
+     */
+    public void write(HttpServletResponse response) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        if (null != authenticate) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, authenticate);
+        }
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+}
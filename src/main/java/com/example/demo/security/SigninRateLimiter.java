@@ -0,0 +1,179 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 요청 제한 (brute-force 방지)
+ * 클라이언트 주소별, email 별로 token bucket 을 두고, 초과한 요청은 사용자 조회/토큰 발급 전에 거부한다
+ * - bucket 은 GCRA (다음 요청 가능 시각 하나만 보관) 로 구현하여 CAS 한번으로 갱신한다 (lock 없음)
+ * - capacity 만큼 연속 요청을 허용하고, period 동안 capacity 만큼 다시 채워진다
+ * - period 동안 요청이 없던 key 는 bucket 이 가득 찬 것과 같으므로 제거해도 결과가 같다 (expireAfterAccess)
+ * - key 수는 종류별 jwt.signinLimit.maximumSize 로 제한된다 (entry 당 약 150 byte)
+ *   period 안에 이보다 많은 key 가 들어오면 (다수 주소의 분산 요청) 자주 쓰이지 않은 bucket 부터 제거되어
+ *   가득 찬 상태로 다시 시작하므로, 동시에 활동하는 주소/email 수보다 충분히 크게 설정해야 한다
+ *   한 주소에서는 주소 bucket 에 막혀 email key 를 빠르게 늘릴 수 없다
+ * metric
+ * - jwt.signinLimit.keys (gauge) : 보관중인 key 수
+ * - jwt.signinLimit.rejected (counter) : 거부 건수 (key = ip, email)
+ */
+@Component
+public class SigninRateLimiter {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final String METRIC_NAME = "jwt.signinLimit";
+
+    @Value("${jwt.signinLimit.enabled:true}")
+    private boolean enabled;
+
+    // 클라이언트 주소별 연속 허용 건수, 다시 채워지는 시간 (ms)
+    @Value("${jwt.signinLimit.ip.capacity:20}")
+    private long ipCapacity;
+
+    @Value("${jwt.signinLimit.ip.period:60000}")
+    private long ipPeriod;
+
+    // email 별 연속 허용 건수, 다시 채워지는 시간 (ms)
+    @Value("${jwt.signinLimit.email.capacity:5}")
+    private long emailCapacity;
+
+    @Value("${jwt.signinLimit.email.period:60000}")
+    private long emailPeriod;
+
+    // 종류별 최대 key 수 (넘으면 bucket 이 제거되어 제한이 초기화됨)
+    @Value("${jwt.signinLimit.maximumSize:100000}")
+    private long maximumSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 시각 기준 (nanoTime 을 0 이상으로 유지)
+    private final long epoch = System.nanoTime();
+
+    private Limit ipLimit;
+
+    private Limit emailLimit;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        ipLimit = new Limit("ip", ipCapacity, ipPeriod);
+        emailLimit = new Limit("email", emailCapacity, emailPeriod);
+    }
+
+    /**
+     * 로그인 요청 허용 여부
+     * 클라이언트 주소에서 거부되면 email bucket 은 소비하지 않는다
+     * @param clientAddress 알 수 없다면 null
+     * @param email
+     * @return 허용이라면 0, 거부라면 다시 요청할 수 있을 때까지 남은 시간 (ms)
+     */
+    public long acquire(String clientAddress, String email) {
+        if (!enabled) {
+            return 0L;
+        }
+        return acquire(clientAddress, email, System.nanoTime() - epoch);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * @param now epoch 기준 현재 시각 (ns)
+     */
+    long acquire(String clientAddress, String email, long now) {
+        if (null != clientAddress) {
+            long wait = ipLimit.acquire(clientAddress, now);
+            if (wait > 0L) {
+                return wait;
+            }
+        }
+        if (null != email) {
+            return emailLimit.acquire(email.toLowerCase(Locale.ROOT), now);
+        }
+        return 0L;
+    }
+
+    /**
+     * 보관중인 key 수 (대기중인 제거 작업 반영 후)
+     * @return 주소 + email
+     */
+    long trackedKeys() {
+        ipLimit.buckets.cleanUp();
+        emailLimit.buckets.cleanUp();
+        return ipLimit.buckets.estimatedSize() + emailLimit.buckets.estimatedSize();
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * key 종류별 bucket
+     * bucket 값은 다음 요청이 허용되는 이론상 시각 (TAT, ns)
+     */
+    private class Limit {
+
+        private final long period;
+
+        // 1건이 다시 채워지는 시간
+        private final long interval;
+
+        private final Cache<String, AtomicLong> buckets;
+
+        private final Counter rejected;
+
+        private Limit(String name, long capacity, long periodMillis) {
+            this.period = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+            this.interval = period / capacity;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterAccess(periodMillis, TimeUnit.MILLISECONDS)
+                    .build();
+            Gauge.builder(METRIC_NAME + ".keys", buckets, Cache::estimatedSize)
+                    .tag("key", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder(METRIC_NAME + ".rejected")
+                    .tag("key", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * @return 허용이라면 0, 거부라면 남은 시간 (ms)
+         */
+        private long acquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key, k -> new AtomicLong());
+            while (true) {
+                long current = bucket.get();
+                long next = Math.max(current, now) + interval;
+                // bucket 이 비어있다면 다음 1건이 채워질 때까지 대기 (거부시 값은 바꾸지 않음)
+                long wait = next - period - now;
+                if (wait > 0L) {
+                    rejected.increment();
+                    return Math.max(1L, TimeUnit.NANOSECONDS.toMillis(wait));
+                }
+                if (bucket.compareAndSet(current, next)) {
+                    return 0L;
+                }
+            }
+        }
+    }
+}
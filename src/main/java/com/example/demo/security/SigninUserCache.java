@@ -0,0 +1,140 @@
+package com.example.demo.security;
+
+import com.example.demo.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 사용자 캐시
+ * 짧은 시간 안에 같은 email 로 다시 로그인하면 DB 조회 없이 이전에 조회한 사용자로 토큰을 발급한다
+ * - key : 로그인 email, 크기 제한 + jwt.signinCache.window 동안만 보관
+ * - 토큰은 보관하지 않는다. 로그인마다 새 jti 로 access 토큰을 서명하고 refresh 토큰을 발급 (INSERT) 하므로
+ *   한 기기의 로그아웃 (jti 폐기) 이나 refresh 토큰 교체가 다른 로그인에 영향을 주지 않는다
+ *   따라서 hit 로 줄어드는 것은 사용자 조회뿐이며, 서명과 refresh 토큰 저장은 매번 수행한다
+ * - 사용자 정보가 바뀌면 invalidate 해야 한다 (InvalidationBus USER_CHANGED)
+ * metric
+ * - jwt.signins (cache) : hit ratio
+ * - jwt.signins.cpu.saved (counter, seconds) : hit 마다 사용자 조회 1회의 평균 CPU 시간을 절약한 것으로 누적
+ */
+@Component
+public class SigninUserCache {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final String CACHE_NAME = "jwt.signins";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Value("${jwt.signinCache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.signinCache.maximumSize:10000}")
+    private long maximumSize;
+
+    // 보관 기간 (ms)
+    @Value("${jwt.signinCache.window:60000}")
+    private long window;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, User> cache;
+
+    // 조회한 횟수와 CPU 시간 (ns)
+    private final LongAdder loadedCount = new LongAdder();
+
+    private final LongAdder loadedCpuNanos = new LongAdder();
+
+    private final DoubleAdder savedCpuNanos = new DoubleAdder();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        FunctionCounter.builder(CACHE_NAME + ".cpu.saved", savedCpuNanos, saved -> saved.sum() / 1e9)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전에 조회한 사용자
+     * @param email
+     * @return 없다면 null
+     */
+    public User get(String email) {
+        if (!enabled || null == email) {
+            return null;
+        }
+        User user = cache.getIfPresent(email);
+        if (null == user) {
+            return null;
+        }
+        long count = loadedCount.sum();
+        if (count > 0L) {
+            savedCpuNanos.add((double) loadedCpuNanos.sum() / count);
+        }
+        return user;
+    }
+
+    /**
+     * DB 에서 조회한 사용자 저장
+     * @param email
+     * @param user
+     * @param cpuStartNanos 조회 시작시 {@link #cpuTime()}
+     */
+    public void put(String email, User user, long cpuStartNanos) {
+        if (!enabled || null == email || null == user) {
+            return;
+        }
+        long cpuNanos = cpuTime() - cpuStartNanos;
+        if (cpuNanos > 0L) {
+            loadedCount.increment();
+            loadedCpuNanos.add(cpuNanos);
+        }
+        cache.put(email, user);
+    }
+
+    /**
+     * 사용자 정보 변경시 제거
+     * @param email
+     */
+    public void invalidate(String email) {
+        if (null != email) {
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * 현재 thread 의 CPU 시간 (ns)
+     * @return 지원하지 않는 JVM 이라면 0
+     */
+    public long cpuTime() {
+        if (!enabled || !THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            return 0L;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+}
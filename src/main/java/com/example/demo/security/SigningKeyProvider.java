@@ -0,0 +1,200 @@
+package com.example.demo.security;
+
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.security.crypto.SignatureTokenSigner;
+import com.example.demo.security.crypto.SigningKey;
+import com.example.demo.security.crypto.TokenSigner;
+import com.example.demo.security.crypto.TokenSignerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 서명 key 관리
+ * - jwt.keys.location 이 없다면 jwt.algorithm 으로 지정한 key 하나만 사용한다
+ * - keystore 가 지정되면 alias 를 kid 로 하는 RS256/ES256 key 들을 사용하고, 파일이 바뀌면 다시 읽는다
+ * 현재 key 목록은 불변 {@link KeyRing} 으로 만들어 교체하므로 검증시 lock 이 없다
+ */
+@Component
+public class SigningKeyProvider {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    // HS256, HS384, HS512, ES256, RS256, EdDSA
+    @Value("${jwt.algorithm:HS512}")
+    private String algorithm;
+
+    @Value("${jwt.secretKey}")
+    private String secretKey;
+
+    // base64 PKCS#8 DER
+    @Value("${jwt.privateKey:}")
+    private String privateKey;
+
+    // base64 X.509 DER
+    @Value("${jwt.publicKey:}")
+    private String publicKey;
+
+    // PKCS12/JKS keystore 파일 경로
+    @Value("${jwt.keys.location:}")
+    private String keyStoreLocation;
+
+    @Value("${jwt.keys.password:}")
+    private String keyStorePassword;
+
+    // 발급에 사용할 alias, 없다면 가장 최근 인증서의 key
+    @Value("${jwt.keys.active:}")
+    private String activeKeyId;
+
+    // kid 가 없는 기존 HMAC 토큰도 검증할지 여부
+    @Value("${jwt.keys.acceptLegacy:true}")
+    private boolean acceptLegacy;
+
+    private final AtomicReference<KeyRing> keyRing = new AtomicReference<>();
+
+    private volatile long lastModified;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() throws Exception {
+        if (StringUtils.hasText(keyStoreLocation)) {
+            keyRing.set(loadKeyStore());
+        } else {
+            keyRing.set(KeyRing.of(createConfiguredKey()));
+        }
+    }
+
+    /**
+     * 현재 key 목록
+     * @return
+     */
+    public KeyRing current() {
+        return keyRing.get();
+    }
+
+    /**
+     * keystore 파일이 변경되었다면 다시 읽어 교체
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.reloadInterval:60000}")
+    public void reload() {
+        if (!StringUtils.hasText(keyStoreLocation)) {
+            return;
+        }
+        try {
+            long modified = Files.getLastModifiedTime(Paths.get(keyStoreLocation)).toMillis();
+            if (modified != lastModified) {
+                keyRing.set(loadKeyStore());
+                log.info("Reloaded JWT signing keys. active kid: {}", current().getActiveKey().getKeyId());
+            }
+        } catch (Exception e) {
+            // 읽기에 실패하면 기존 key 를 계속 사용
+            log.warn("Failed to reload JWT signing keys from {}.", keyStoreLocation, e);
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 설정값으로 key 하나 생성
+     * HMAC 이라면 기존 토큰과 같도록 kid 를 넣지 않는다
+     * @return
+     */
+    private SigningKey createConfiguredKey() {
+        TokenSigner signer = TokenSignerFactory.create(algorithm, secretKey, privateKey, publicKey);
+        if (signer instanceof SignatureTokenSigner) {
+            PublicKey pub = ((SignatureTokenSigner) signer).getPublicKey();
+            return new SigningKey(SigningKey.thumbprint(pub), signer, pub);
+        }
+        return new SigningKey(null, signer, null);
+    }
+
+    /**
+     * keystore 의 key 들로 KeyRing 생성
+     * @return
+     * @throws Exception
+     */
+    private KeyRing loadKeyStore() throws Exception {
+        Path path = Paths.get(keyStoreLocation);
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        char[] password = keyStorePassword.toCharArray();
+        KeyStore keyStore = KeyStore.getInstance(keyStoreLocation.endsWith(".jks") ? "JKS" : "PKCS12");
+        try (InputStream in = Files.newInputStream(path)) {
+            keyStore.load(in, password);
+        }
+
+        List<SigningKey> keys = new ArrayList<>();
+        SigningKey active = null;
+        Date activeNotBefore = null;
+        for (String alias : Collections.list(keyStore.aliases())) {
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (null == certificate) {
+                continue;
+            }
+            PublicKey pub = certificate.getPublicKey();
+            String keyAlgorithm = pub instanceof RSAPublicKey ? "RS256" : pub instanceof ECPublicKey ? "ES256" : null;
+            if (null == keyAlgorithm) {
+                log.warn("Skipping unsupported key '{}' ({}).", alias, pub.getAlgorithm());
+                continue;
+            }
+            // 인증서만 있다면 검증 전용 key
+            Key key = keyStore.isKeyEntry(alias) ? keyStore.getKey(alias, password) : null;
+            PrivateKey priv = key instanceof PrivateKey ? (PrivateKey) key : null;
+            SigningKey signingKey = new SigningKey(alias, new SignatureTokenSigner(keyAlgorithm, priv, pub), pub);
+            keys.add(signingKey);
+
+            if (null == priv) {
+                continue;
+            }
+            Date notBefore = certificate instanceof X509Certificate ? ((X509Certificate) certificate).getNotBefore() : new Date(0L);
+            if (alias.equals(activeKeyId)
+                    || (!StringUtils.hasText(activeKeyId) && (null == active || notBefore.after(activeNotBefore)))) {
+                active = signingKey;
+                activeNotBefore = notBefore;
+            }
+        }
+        if (null == active) {
+            throw new IllegalStateException("No signing key with a private key found in " + keyStoreLocation);
+        }
+
+        // kid 없이 발급된 기존 토큰 검증용
+        SigningKey legacyKey = null;
+        if (acceptLegacy && StringUtils.hasText(secretKey)) {
+            String legacyAlgorithm = algorithm.startsWith("HS") ? algorithm : "HS512";
+            legacyKey = new SigningKey(null, TokenSignerFactory.hmac(legacyAlgorithm, secretKey), null);
+            keys.add(legacyKey);
+        }
+        lastModified = modified;
+        return new KeyRing(active, keys, legacyKey);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.security;
+
+import java.util.Date;
+
+/**
+ * 서비스에서 사용하는 클래임만 담는 flat 구조
+ * Map 을 만들지 않고 필요한 필드만 바로 디코딩한다
+ */
+public class TokenClaims {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // 발급시 사용하는 클래임 이름 (user id 는 sub)
+    public static final String SUBJECT = "sub";
+    public static final String TOKEN_ID = "jti";
+    public static final String EMAIL = "em";
+    public static final String NAME = "nm";
+    public static final String ADMIN_FLAG = "adm";
+    public static final String ISSUED_AT = "iat";
+    public static final String EXPIRATION = "exp";
+
+    // 기존 토큰의 클래임 이름 (읽기만 지원)
+    public static final String LEGACY_ID = "id";
+    public static final String LEGACY_EMAIL = "email";
+    public static final String LEGACY_NAME = "name";
+    public static final String LEGACY_ADMIN_FLAG = "adminFl";
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final String subject;
+
+    // jti, 폐기 여부 확인에 사용 (기존 토큰은 null)
+    private final String tokenId;
+
+    // user id (sub, 기존 토큰은 id 클래임)
+    private final String id;
+
+    private final String email;
+
+    private final String name;
+
+    private final Boolean adminFlag;
+
+    // epoch seconds, 없다면 0
+    private final long issuedAt;
+
+    // epoch seconds, 없다면 0
+    private final long expiration;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public TokenClaims(String subject, String tokenId, String id, String email, String name, Boolean adminFlag,
+                       long issuedAt, long expiration) {
+        this.subject = subject;
+        this.tokenId = tokenId;
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.adminFlag = adminFlag;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Boolean getAdminFlag() {
+        return adminFlag;
+    }
+
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * access 토큰 여부
+     * 사용자 id, 이름, 관리자 여부를 모두 담고 있어야 한다
+     * 기존 refresh 토큰 (id, email 만 있는 JWT) 이 bearer 토큰으로 쓰이지 않도록 검증시 확인한다
+     * @return
+     */
+    public boolean isAccessToken() {
+        return null != id && null != name && null != adminFlag;
+    }
+
+    public Date getIssuedAtDate() {
+        return 0L == issuedAt ? null : new Date(issuedAt * 1000L);
+    }
+
+    public Date getExpirationDate() {
+        return 0L == expiration ? null : new Date(expiration * 1000L);
+    }
+}
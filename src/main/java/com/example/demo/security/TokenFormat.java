@@ -0,0 +1,14 @@
+package com.example.demo.security;
+
+/**
+ * access 토큰 발급 형식
+ * 검증은 설정과 관계없이 두 형식 모두 지원한다 (형식 변경 중 이미 발급된 토큰 허용)
+ */
+public enum TokenFormat {
+
+    // JWS compact (header.payload.signature), JSON 클래임
+    JWS,
+
+    // COSE_Mac0 / COSE_Sign1 CBOR 를 base64url 로 인코딩 ('.' 없음)
+    CWT
+}
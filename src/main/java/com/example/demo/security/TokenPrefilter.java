@@ -0,0 +1,178 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증 전 토큰 사전 검사
+ * 봇이 잘못된/만료된 토큰을 반복해서 보내도 서명 검증(HMAC, 서명) 까지 가지 않도록 한다
+ * - 형식 : 길이, 문자(base64url, '.'), JWS 는 '.' 2개 (CWT 는 0개)
+ * - 최근 거부된 토큰 : 크기 제한 캐시 (jwt.prefilter.rejectedCache.*) 에 거부 사유 보관
+ * - 만료 : 서명 검증 없이 payload 의 exp 만 읽어 확인
+ * 검증되지 않은 값은 거부에만 사용하므로, 통과한 토큰은 기존과 같이 서명/만료를 모두 검증한다
+ */
+@Component
+public class TokenPrefilter {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final String CACHE_NAME = "jwt.rejectedTokens";
+
+    // 토큰 문자열 외 entry 당 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    // 가장 짧은 토큰 (HS256 header + 빈 payload + 서명) 보다 짧다면 형식 오류
+    private static final int MIN_LENGTH = 32;
+
+    @Value("${jwt.prefilter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.prefilter.maxLength:8192}")
+    private int maxLength;
+
+    @Value("${jwt.prefilter.rejectedCache.maximumBytes:4194304}")
+    private long maximumBytes;
+
+    // 거부 결과 보관 시간 (ms), key 교체로 새 kid 가 늦게 반영되는 경우를 고려해 짧게 유지
+    @Value("${jwt.prefilter.rejectedCache.ttl:60000}")
+    private long ttl;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // key 는 토큰 자체 (digest 를 만들면 짧은 토큰의 HMAC 검증과 비용이 비슷하므로 byte 크기로 제한)
+    private Cache<String, TokenStatus> rejected;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        rejected = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String token, TokenStatus status) -> ENTRY_OVERHEAD_BYTES + token.length() * 2)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, CACHE_NAME);
+    }
+
+    /**
+     * 형식 검사 (문자열 순회만 하며 할당 없음)
+     * 검증 캐시 조회 전에 수행한다
+     * @param token
+     * @return 거부 사유, 통과라면 null
+     */
+    public TokenStatus checkShape(String token) {
+        if (!StringUtils.hasText(token)) {
+            return TokenStatus.EMPTY;
+        }
+        if (!enabled) {
+            return null;
+        }
+        int length = token.length();
+        if (length < MIN_LENGTH || length > maxLength) {
+            return TokenStatus.MALFORMED;
+        }
+        int first = -1;
+        int second = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (first < 0) {
+                    first = i;
+                } else if (second < 0) {
+                    second = i;
+                } else {
+                    return TokenStatus.MALFORMED;
+                }
+            } else if (!isBase64Url(c)) {
+                return TokenStatus.MALFORMED;
+            }
+        }
+        if (first < 0) {
+            // CWT
+            return null;
+        }
+        // header, payload, 서명 모두 비어 있지 않은 JWS
+        if (second < 0 || first == 0 || second == first + 1 || second == length - 1) {
+            return TokenStatus.MALFORMED;
+        }
+        return null;
+    }
+
+    /**
+     * 최근 거부 여부, 만료 검사
+     * 검증 캐시에 없는 토큰만 서명 검증 직전에 수행한다
+     * @param token checkShape 를 통과한 토큰
+     * @return 거부 사유, 통과라면 null
+     */
+    public TokenStatus check(String token) {
+        if (!enabled) {
+            return null;
+        }
+        TokenStatus status = rejected.getIfPresent(token);
+        if (null != status) {
+            return status;
+        }
+        long expiration;
+        try {
+            expiration = token.indexOf('.') < 0
+                    ? CwtCodec.peekExpiration(token)
+                    : CompactJwsDecoder.peekExpiration(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            status = TokenStatus.MALFORMED;
+            rejected.put(token, status);
+            return status;
+        }
+        if (0L != expiration && expiration * 1000L < System.currentTimeMillis()) {
+            status = TokenStatus.EXPIRED;
+            rejected.put(token, status);
+            return status;
+        }
+        return null;
+    }
+
+    /**
+     * 서명 검증에서 거부된 토큰 저장
+     * 다시 들어오면 서명 검증 없이 같은 사유로 거부된다
+     * @param token
+     * @param status
+     */
+    public void rejected(String token, TokenStatus status) {
+        if (!enabled || null == token || token.length() > maxLength) {
+            return;
+        }
+        switch (status) {
+            case INVALID_SIGNATURE:
+            case MALFORMED:
+            case EXPIRED:
+            case UNSUPPORTED:
+                rejected.put(token, status);
+                break;
+            default:
+                // 폐기 여부는 TokenRevocationStore 에서 확인
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 거부 로그
+ * 요청마다 로그를 쓰지 않고 사유별 건수를 모아 jwt.rejectionLog.interval 마다 한 줄로 남긴다
+ * 사유별로 주기당 첫 건만 상세 내용을 DEBUG 로 남긴다 (sampling)
+ */
+@Component
+public class TokenRejectionLog {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${jwt.rejectionLog.interval:60000}")
+    private long interval;
+
+    private final Map<TokenStatus, LongAdder> counts = new EnumMap<>(TokenStatus.class);
+
+    // 이번 주기에 상세 로그를 남겼는지 여부
+    private final Map<TokenStatus, AtomicBoolean> sampled = new EnumMap<>(TokenStatus.class);
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public TokenRejectionLog() {
+        for (TokenStatus status : TokenStatus.values()) {
+            counts.put(status, new LongAdder());
+            sampled.put(status, new AtomicBoolean());
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 거부 기록
+     * @param status
+     * @param cause 서명 검증에서 발생한 예외, 사전 검사로 거부되었다면 null
+     */
+    public void record(TokenStatus status, Exception cause) {
+        counts.get(status).increment();
+        if (log.isDebugEnabled() && sampled.get(status).compareAndSet(false, true)) {
+            log.debug("Rejected JWT token ({}): {}", status, null == cause ? "pre-validation" : cause.getMessage());
+        }
+        if (null != cause) {
+            log.trace("Rejected JWT token trace: {}", cause);
+        }
+    }
+
+    /**
+     * 주기 동안의 사유별 거부 건수 기록
+     */
+    @Scheduled(fixedDelayString = "${jwt.rejectionLog.interval:60000}")
+    public void flush() {
+        StringBuilder summary = new StringBuilder();
+        for (TokenStatus status : TokenStatus.values()) {
+            long count = counts.get(status).sumThenReset();
+            sampled.get(status).set(false);
+            if (count > 0L) {
+                if (summary.length() > 0) {
+                    summary.append(", ");
+                }
+                summary.append(status).append('=').append(count);
+            }
+        }
+        if (summary.length() > 0) {
+            log.info("Rejected JWT tokens in the last {} ms: {}", interval, summary);
+        }
+    }
+}
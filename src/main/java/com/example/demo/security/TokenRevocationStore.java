@@ -0,0 +1,141 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰(jti) 저장소
+ * - 폐기 목록은 jti -> exp(epoch seconds) 로 보관하고, exp 가 지난 항목은 주기적으로 제거한다
+ * - 앞단의 Bloom filter 로 폐기되지 않은 대부분의 토큰은 hash 비교만으로 통과시킨다
+ * - Bloom filter 는 제거가 불가능하므로 정리할 때 남은 항목으로 새로 만들어 교체한다
+ * 조회는 lock 이 없고, 폐기/재생성만 ReentrantLock 으로 동기화한다
+ */
+@Component
+public class TokenRevocationStore {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final String METRIC_NAME = "jwt.revocation";
+
+    // 폐기 목록 entry 당 대략적인 크기 (map node + table slot, jti String (22~36자), exp Long)
+    private static final long ENTRY_BYTES = 160L;
+
+    // Bloom filter 크기 기준 (이보다 많아지면 재생성시 크기를 늘린다)
+    @Value("${jwt.revocation.expectedInsertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${jwt.revocation.falsePositiveRate:0.01}")
+    private double falsePositiveRate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    // 폐기/재생성 동기화 (synchronized 는 virtual thread 의 carrier thread 를 고정)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Bloom filter 가 있다고 했지만 실제로는 없었던 횟수
+    private Counter falsePositives;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        falsePositives = Counter.builder(METRIC_NAME + ".bloom.falsePositives")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", revoked, Map::size)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".bloom.expectedFalsePositiveRate", this,
+                store -> store.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".bloom.memory", this, store -> store.filter.memoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        // Bloom filter + 폐기 목록 (추정)
+        Gauge.builder(METRIC_NAME + ".memory", this, TokenRevocationStore::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 폐기
+     * @param tokenId jti
+     * @param expiration 토큰 exp (epoch seconds), 이후 자동 제거
+     */
+    public void revoke(String tokenId, long expiration) {
+        if (null == tokenId) {
+            return;
+        }
+        lock.lock();
+        try {
+            revoked.put(tokenId, expiration);
+            filter.put(tokenId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 폐기 여부
+     * @param tokenId jti
+     * @return
+     */
+    public boolean isRevoked(String tokenId) {
+        // jti 가 없는 기존 토큰은 폐기할 수 없음
+        if (null == tokenId || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (revoked.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * 만료된 항목 제거 후 Bloom filter 재생성
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purgeInterval:300000}")
+    public void purge() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis() / 1000L;
+            revoked.values().removeIf(expiration -> 0L != expiration && expiration < now);
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2L), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 추정 메모리 사용량 (bytes)
+     * @return Bloom filter bit 배열 + 폐기 목록 entry 수 * {@link #ENTRY_BYTES}
+     */
+    private long memoryBytes() {
+        return filter.memoryBytes() + revoked.size() * ENTRY_BYTES;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.security;
+
+/**
+ * 토큰 검증 결과
+ */
+public enum TokenStatus {
+
+    // 정상 토큰
+    VALID,
+
+    // 서명 불일치
+    INVALID_SIGNATURE,
+
+    // 형식 오류
+    MALFORMED,
+
+    // 만료된 토큰
+    EXPIRED,
+
+    // 폐기된 토큰
+    REVOKED,
+
+    // 지원하지 않는 토큰
+    UNSUPPORTED,
+
+    // 빈 토큰
+    EMPTY
+}
@@ -0,0 +1,165 @@
+package com.example.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 인증 시 사용하는 사용자 principal 캐시
+ * 요청마다 DB 에서 사용자를 조회하지 않도록 user id 기준으로 캐시한다
+ * 사용자 정보가 변경되면 invalidate 되며, 최대 jwt.principalCache.ttl 만큼 오래된 정보를 사용할 수 있다
+ */
+@Component
+public class UserPrincipalCache {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final String CACHE_NAME = "jwt.principals";
+
+    @Value("${jwt.principalCache.maximumSize:10000}")
+    private long maximumSize;
+
+    // 최대 staleness (ms)
+    @Value("${jwt.principalCache.ttl:60000}")
+    private long ttl;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, UserPrincipal> cache;
+
+    // 조회 중인 user id
+    private final ConcurrentMap<String, CompletableFuture<UserPrincipal>> loading = new ConcurrentHashMap<>();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * principal 조회, 없다면 loader 로 조회 후 저장
+     * 같은 id 로 동시에 들어온 요청은 한번만 loader 를 호출하고 나머지는 그 결과를 기다린다
+     * Cache.get(key, loader) 는 DB 조회 동안 map 의 bin lock (synchronized) 을 잡고 있어
+     * virtual thread 에서는 carrier thread 가 고정되므로 loader 는 lock 밖에서 실행한다
+     * 조회 중에 invalidate 되었다면 조회 결과는 캐시에 남기지 않는다
+     * @param userId
+     * @param loader
+     * @return 사용자가 없다면 null
+     */
+    public UserPrincipal get(String userId, Function<String, UserPrincipal> loader) {
+        if (null == userId) {
+            return null;
+        }
+        UserPrincipal principal = cache.getIfPresent(userId);
+        if (null != principal) {
+            return principal;
+        }
+        CompletableFuture<UserPrincipal> loading = new CompletableFuture<>();
+        CompletableFuture<UserPrincipal> inFlight = this.loading.putIfAbsent(userId, loading);
+        if (null != inFlight) {
+            return join(inFlight);
+        }
+        try {
+            principal = loader.apply(userId);
+            if (null != principal) {
+                cache.put(userId, principal);
+                // invalidate 가 조회 중인 future 를 제거했다면 변경 전 정보일 수 있음
+                if (!this.loading.remove(userId, loading)) {
+                    cache.invalidate(userId);
+                }
+            }
+            loading.complete(principal);
+            return principal;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loading.remove(userId, loading);
+        }
+    }
+
+    /**
+     * loader 없이 캐시만 조회
+     * @param userId
+     * @return 캐시에 없다면 null
+     */
+    public UserPrincipal getIfPresent(String userId) {
+        return null == userId ? null : cache.getIfPresent(userId);
+    }
+
+    /**
+     * 직접 조회한 principal 저장
+     * @param principal
+     */
+    public void put(UserPrincipal principal) {
+        cache.put(principal.getId(), principal);
+    }
+
+    /**
+     * 사용자 정보 변경시 캐시 제거
+     * @param userId
+     */
+    public void invalidate(String userId) {
+        if (null != userId) {
+            // 조회 중인 결과가 캐시에 저장되지 않도록 먼저 제거
+            loading.remove(userId);
+            cache.invalidate(userId);
+        }
+    }
+
+    /**
+     * 전체 캐시 제거
+     */
+    public void invalidateAll() {
+        loading.clear();
+        cache.invalidateAll();
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 다른 요청의 조회 결과 대기
+     * loader 에서 발생한 예외는 CompletionException 으로 감싸지 않고 그대로 던진다
+     * @param inFlight
+     * @return
+     */
+    private static UserPrincipal join(CompletableFuture<UserPrincipal> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.security;
+
+import java.util.Date;
+
+/**
+ * 한번 파싱/검증된 토큰
+ * filter 에서 생성되어 인증 처리와 controller 까지 그대로 전달된다
+ */
+public class VerifiedToken {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // request attribute 이름
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final String token;
+
+    private final TokenStatus status;
+
+    private final TokenClaims claims;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private VerifiedToken(String token, TokenStatus status, TokenClaims claims) {
+        this.token = token;
+        this.status = status;
+        this.claims = claims;
+    }
+
+    /**
+     * 검증된 토큰
+     * @param token
+     * @param claims
+     * @return
+     */
+    public static VerifiedToken valid(String token, TokenClaims claims) {
+        return new VerifiedToken(token, TokenStatus.VALID, claims);
+    }
+
+    /**
+     * 검증 실패한 토큰
+     * @param token
+     * @param status
+     * @return
+     */
+    public static VerifiedToken rejected(String token, TokenStatus status) {
+        return new VerifiedToken(token, status, null);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public String getToken() {
+        return token;
+    }
+
+    public TokenStatus getStatus() {
+        return status;
+    }
+
+    public TokenClaims getClaims() {
+        return claims;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 서명 및 만료 검증 통과 여부
+     * @return
+     */
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+
+    public String getSubject() {
+        return isValid() ? claims.getSubject() : null;
+    }
+
+    public String getTokenId() {
+        return isValid() ? claims.getTokenId() : null;
+    }
+
+    public Date getExpiration() {
+        return isValid() ? claims.getExpirationDate() : null;
+    }
+
+    public Date getIssuedAt() {
+        return isValid() ? claims.getIssuedAtDate() : null;
+    }
+
+    public String getUserId() {
+        return isValid() ? claims.getId() : null;
+    }
+
+    public String getEmail() {
+        return isValid() ? claims.getEmail() : null;
+    }
+
+    public String getName() {
+        return isValid() ? claims.getName() : null;
+    }
+
+    public Boolean getAdminFlag() {
+        return isValid() ? claims.getAdminFlag() : null;
+    }
+}
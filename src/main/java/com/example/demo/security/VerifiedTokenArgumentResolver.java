@@ -0,0 +1,33 @@
+package com.example.demo.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * controller 파라미터로 {@link VerifiedToken} 을 넘겨주는 resolver
+ * filter 에서 검증한 토큰을 그대로 사용하므로 Authorization 헤더를 다시 읽거나 파싱하지 않는다
+ */
+public class VerifiedTokenArgumentResolver implements HandlerMethodArgumentResolver {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return VerifiedToken.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        // 검증된 토큰이 없다면 null
+        return webRequest.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.demo.security;
+
+import com.example.demo.security.crypto.KeyRing;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰 캐시
+ * 같은 토큰이 만료 전까지 반복해서 들어오므로 base64 디코딩, json 파싱, 서명 검증을 생략한다
+ * - key : 토큰의 SHA-256 digest
+ * - 크기 제한 : 추정 메모리(byte) 기준, W-TinyLFU 정책으로 eviction
+ * - 만료 : 토큰의 exp 시각을 넘지 않음
+ * - key 교체 : 검증에 사용한 KeyRing 을 함께 보관하고, key 가 교체/제거되었다면 hit 로 보지 않고 다시 검증한다
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // digest key, VerifiedToken, Claims map 등 토큰 문자열 외 entry 당 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 1024;
+
+    private static final String CACHE_NAME = "jwt.verifiedTokens";
+
+    @Value("${jwt.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.cache.maximumBytes:33554432}")
+    private long maximumBytes;
+
+    @Autowired
+    private SigningKeyProvider signingKeyProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, Entry> cache;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, Entry value) -> estimateBytes(value.verifiedToken))
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        // hit ratio, eviction, size 리포트
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        // 추정 메모리 사용량
+        Gauge.builder(CACHE_NAME + ".memory", cache, c -> c.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     * @param token
+     * @return 없거나 만료되었거나, 검증 후 key 가 교체되었다면 null
+     */
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String key = digest(token);
+        Entry entry = cache.getIfPresent(key);
+        if (null == entry) {
+            return null;
+        }
+        // 교체로 빠진 key (폐기된 key 포함) 로 서명된 토큰이 exp 까지 통과하지 않도록 다시 검증
+        if (entry.keyRing != signingKeyProvider.current()) {
+            cache.invalidate(key);
+            return null;
+        }
+        return entry.verifiedToken;
+    }
+
+    /**
+     * 검증에 사용할 key 목록
+     * 검증 전에 얻어 {@link #put(VerifiedToken, KeyRing)} 에 전달한다 (검증 중 교체되면 다음 조회에서 다시 검증)
+     * @return
+     */
+    public KeyRing keyRing() {
+        return signingKeyProvider.current();
+    }
+
+    /**
+     * 검증된 토큰 저장
+     * @param verifiedToken
+     * @param keyRing 검증 전 {@link #keyRing()}
+     */
+    public void put(VerifiedToken verifiedToken, KeyRing keyRing) {
+        if (!enabled || !verifiedToken.isValid() || null == verifiedToken.getExpiration()) {
+            return;
+        }
+        cache.put(digest(verifiedToken.getToken()), new Entry(verifiedToken, keyRing));
+    }
+
+    /**
+     * 캐시에서 제거
+     * @param token
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 토큰 digest
+     * @param token
+     * @return
+     */
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 에서 SHA-256 은 필수 지원
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int estimateBytes(VerifiedToken verifiedToken) {
+        return ENTRY_OVERHEAD_BYTES + verifiedToken.getToken().length() * 2;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 검증 결과와 검증에 사용한 key 목록
+     */
+    private static class Entry {
+
+        private final VerifiedToken verifiedToken;
+
+        private final KeyRing keyRing;
+
+        private Entry(VerifiedToken verifiedToken, KeyRing keyRing) {
+            this.verifiedToken = verifiedToken;
+            this.keyRing = keyRing;
+        }
+    }
+
+    /**
+     * entry 만료시간 = 토큰 exp
+     */
+    private static class TokenExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            Date expiration = value.verifiedToken.getExpiration();
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
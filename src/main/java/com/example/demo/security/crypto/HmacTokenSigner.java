@@ -0,0 +1,99 @@
+package com.example.demo.security.crypto;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * HMAC 서명 (HS256, HS384, HS512)
+ * 초기화된 Mac 객체를 pool 에 보관하고 재사용한다
+ */
+public class HmacTokenSigner implements TokenSigner {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final String algorithm;
+
+    private final SecretKeySpec key;
+
+    private final Queue<Mac> pool = new ConcurrentLinkedQueue<>();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public HmacTokenSigner(String algorithm, byte[] secret) {
+        this.algorithm = algorithm;
+        this.key = new SecretKeySpec(secret, toJcaName(algorithm));
+        // key 가 올바른지 생성시 확인
+        pool.offer(newMac());
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public byte[] sign(byte[] content) {
+        return sign(content, 0, content.length);
+    }
+
+    @Override
+    public boolean verify(byte[] content, int offset, int length, byte[] signature) {
+        // timing attack 방지를 위해 constant-time 비교
+        return MessageDigest.isEqual(sign(content, offset, length), signature);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private byte[] sign(byte[] content, int offset, int length) {
+        Mac mac = borrow();
+        try {
+            mac.update(content, offset, length);
+            // doFinal 호출 후 Mac 은 초기 상태로 돌아간다
+            return mac.doFinal();
+        } finally {
+            pool.offer(mac);
+        }
+    }
+
+    private Mac borrow() {
+        Mac mac = pool.poll();
+        return null != mac ? mac : newMac();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize " + algorithm + " signer.", e);
+        }
+    }
+
+    private static String toJcaName(String algorithm) {
+        switch (algorithm) {
+            case "HS256":
+                return "HmacSHA256";
+            case "HS384":
+                return "HmacSHA384";
+            case "HS512":
+                return "HmacSHA512";
+            default:
+                throw new IllegalArgumentException("Unsupported HMAC algorithm: " + algorithm);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.security.crypto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 사용중인 서명 key 목록 (불변)
+ * key 교체시 새 KeyRing 을 만들어 통째로 바꾸므로 조회시 lock 이 필요 없다
+ */
+public class KeyRing {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // 발급에 사용하는 key
+    private final SigningKey activeKey;
+
+    // 검증 가능한 key 전체 (activeKey 포함)
+    private final List<SigningKey> keys;
+
+    private final Map<String, SigningKey> keysById;
+
+    // header 에 kid 가 없는 토큰을 검증하는 key
+    private final SigningKey defaultKey;
+
+    // JWKS 응답 (미리 직렬화)
+    private final byte[] jwks;
+
+    private final String jwksETag;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public KeyRing(SigningKey activeKey, List<SigningKey> keys, SigningKey defaultKey) {
+        this.activeKey = activeKey;
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+        Map<String, SigningKey> byId = new HashMap<>();
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        for (SigningKey key : keys) {
+            if (null != key.getKeyId()) {
+                byId.put(key.getKeyId(), key);
+            }
+            if (null != key.getJwk()) {
+                jwkList.add(key.getJwk());
+            }
+        }
+        this.keysById = byId;
+        this.defaultKey = defaultKey;
+        try {
+            this.jwks = MAPPER.writeValueAsBytes(Collections.singletonMap("keys", jwkList));
+            this.jwksETag = '"' + hex(MessageDigest.getInstance("SHA-256").digest(jwks)) + '"';
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * key 하나로 구성된 KeyRing
+     * @param key
+     * @return
+     */
+    public static KeyRing of(SigningKey key) {
+        return new KeyRing(key, Collections.singletonList(key), null == key.getKeyId() ? key : null);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    public List<SigningKey> getKeys() {
+        return keys;
+    }
+
+    public byte[] getJwks() {
+        return jwks;
+    }
+
+    public String getJwksETag() {
+        return jwksETag;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * kid 로 검증 key 조회
+     * @param keyId null 이라면 default key
+     * @return 없다면 null
+     */
+    public SigningKey find(String keyId) {
+        return null == keyId ? defaultKey : keysById.get(keyId);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.demo.security.crypto;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.impl.crypto.EllipticCurveProvider;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 비대칭키 서명 (ES256, RS256, EdDSA)
+ * 서명용/검증용으로 초기화된 Signature 객체를 각각 pool 에 보관하고 재사용한다
+ * private key 가 없다면 검증만 가능하다
+ */
+public class SignatureTokenSigner implements TokenSigner {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // ES256 JWS 서명 길이 (R || S)
+    private static final int ES256_SIGNATURE_LENGTH = 64;
+
+    private final String algorithm;
+
+    private final String jcaName;
+
+    private final PrivateKey privateKey;
+
+    private final PublicKey publicKey;
+
+    private final Queue<Signature> signPool = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Signature> verifyPool = new ConcurrentLinkedQueue<>();
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public SignatureTokenSigner(String algorithm, PrivateKey privateKey, PublicKey publicKey) {
+        this.algorithm = algorithm;
+        this.jcaName = toJcaName(algorithm);
+        this.privateKey = privateKey;
+        this.publicKey = publicKey;
+        // key 가 올바른지 생성시 확인
+        verifyPool.offer(newVerifier());
+        if (null != privateKey) {
+            signPool.offer(newSigner());
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Override Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public byte[] sign(byte[] content) {
+        if (null == privateKey) {
+            throw new IllegalStateException(algorithm + " key has no private key.");
+        }
+        Signature signature = signPool.poll();
+        if (null == signature) {
+            signature = newSigner();
+        }
+        try {
+            signature.update(content);
+            byte[] result = signature.sign();
+            // JCA 의 ECDSA 서명은 DER 형식이므로 JWS 형식(R || S)으로 변환
+            return "ES256".equals(algorithm)
+                    ? EllipticCurveProvider.transcodeSignatureToConcat(result, ES256_SIGNATURE_LENGTH)
+                    : result;
+        } catch (GeneralSecurityException | JwtException e) {
+            // 예외가 발생한 객체는 상태를 알 수 없으므로 pool 에 반환하지 않는다
+            signature = null;
+            throw new IllegalStateException("Unable to sign token with " + algorithm + ".", e);
+        } finally {
+            if (null != signature) {
+                signPool.offer(signature);
+            }
+        }
+    }
+
+    @Override
+    public boolean verify(byte[] content, int offset, int length, byte[] jwsSignature) {
+        Signature signature = verifyPool.poll();
+        if (null == signature) {
+            signature = newVerifier();
+        }
+        try {
+            byte[] expected = "ES256".equals(algorithm)
+                    ? EllipticCurveProvider.transcodeSignatureToDER(jwsSignature)
+                    : jwsSignature;
+            signature.update(content, offset, length);
+            return signature.verify(expected);
+        } catch (GeneralSecurityException | JwtException e) {
+            signature = null;
+            return false;
+        } finally {
+            if (null != signature) {
+                verifyPool.offer(signature);
+            }
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private Signature newSigner() {
+        try {
+            Signature signature = Signature.getInstance(jcaName);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize " + algorithm + " signer.", e);
+        }
+    }
+
+    private Signature newVerifier() {
+        try {
+            Signature signature = Signature.getInstance(jcaName);
+            signature.initVerify(publicKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize " + algorithm + " verifier.", e);
+        }
+    }
+
+    private static String toJcaName(String algorithm) {
+        switch (algorithm) {
+            case "ES256":
+                return "SHA256withECDSA";
+            case "RS256":
+                return "SHA256withRSA";
+            case "EdDSA":
+                // JDK 15 이상에서만 지원
+                return "Ed25519";
+            default:
+                throw new IllegalArgumentException("Unsupported signature algorithm: " + algorithm);
+        }
+    }
+}
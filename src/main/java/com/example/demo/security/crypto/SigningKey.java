@@ -0,0 +1,175 @@
+package com.example.demo.security.crypto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * kid 와 signer, 미리 인코딩된 JWS header 를 묶은 서명 key
+ */
+public class SigningKey {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // P-256 좌표 길이
+    private static final int EC_COORDINATE_LENGTH = 32;
+
+    // null 이라면 header 에 kid 를 넣지 않는다 (기존 HMAC 토큰 형식)
+    private final String keyId;
+
+    private final TokenSigner signer;
+
+    private final String encodedHeader;
+
+    private final byte[] encodedHeaderBytes;
+
+    // 공개키 JWK, 대칭키라면 null
+    private final Map<String, Object> jwk;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public SigningKey(String keyId, TokenSigner signer, PublicKey publicKey) {
+        this.keyId = keyId;
+        this.signer = signer;
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", signer.getAlgorithm());
+        if (null != keyId) {
+            header.put("kid", keyId);
+        }
+        try {
+            this.encodedHeader = ENCODER.encodeToString(MAPPER.writeValueAsBytes(header));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        this.encodedHeaderBytes = encodedHeader.getBytes(StandardCharsets.US_ASCII);
+        this.jwk = null == publicKey ? null : toJwk(keyId, signer.getAlgorithm(), publicKey);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public TokenSigner getSigner() {
+        return signer;
+    }
+
+    public String getAlgorithm() {
+        return signer.getAlgorithm();
+    }
+
+    public String getEncodedHeader() {
+        return encodedHeader;
+    }
+
+    public Map<String, Object> getJwk() {
+        return jwk;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 토큰의 header segment 가 이 key 로 발급한 header 와 같은지 확인
+     * @param bytes 토큰 ASCII
+     * @param length header segment 길이
+     * @return
+     */
+    public boolean matchesHeader(byte[] bytes, int length) {
+        if (length != encodedHeaderBytes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != encodedHeaderBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 공개키 thumbprint 로 kid 생성
+     * @param publicKey
+     * @return
+     */
+    public static String thumbprint(PublicKey publicKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+            return ENCODER.encodeToString(Arrays.copyOf(hash, 12));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static Map<String, Object> toJwk(String keyId, String algorithm, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof RSAPublicKey) {
+            RSAPublicKey rsa = (RSAPublicKey) publicKey;
+            jwk.put("kty", "RSA");
+            jwk.put("n", ENCODER.encodeToString(unsigned(rsa.getModulus(), 0)));
+            jwk.put("e", ENCODER.encodeToString(unsigned(rsa.getPublicExponent(), 0)));
+        } else if (publicKey instanceof ECPublicKey) {
+            ECPublicKey ec = (ECPublicKey) publicKey;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", ENCODER.encodeToString(unsigned(ec.getW().getAffineX(), EC_COORDINATE_LENGTH)));
+            jwk.put("y", ENCODER.encodeToString(unsigned(ec.getW().getAffineY(), EC_COORDINATE_LENGTH)));
+        } else {
+            // JWKS 로 공개하지 않는 key (Ed25519 등)
+            return null;
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm);
+        if (null != keyId) {
+            jwk.put("kid", keyId);
+        }
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    /**
+     * 부호 byte 를 제거한 big-endian 값 (length 가 0 보다 크다면 앞을 0 으로 채움)
+     * @param value
+     * @param length
+     * @return
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            return padded;
+        }
+        return bytes;
+    }
+}
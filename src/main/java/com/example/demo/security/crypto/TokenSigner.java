@@ -0,0 +1,15 @@
+package com.example.demo.security.crypto;
+
+/**
+ * 토큰 서명
+ * key 는 생성시 한번만 디코딩하고 Mac/Signature 객체는 재사용한다
+ */
+public interface TokenSigner extends TokenVerifier {
+
+    /**
+     * 서명 생성
+     * @param content 서명 대상 (header.payload ASCII)
+     * @return JWS 형식 서명
+     */
+    byte[] sign(byte[] content);
+}
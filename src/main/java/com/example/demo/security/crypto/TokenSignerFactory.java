@@ -0,0 +1,126 @@
+package com.example.demo.security.crypto;
+
+import io.jsonwebtoken.impl.TextCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * 설정값으로 {@link TokenSigner} 생성
+ * key 는 여기서 한번만 디코딩한다
+ */
+public final class TokenSignerFactory {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final Logger log = LoggerFactory.getLogger(TokenSignerFactory.class);
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private TokenSignerFactory() {
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * HMAC signer 생성
+     * 기존 토큰과 호환되도록 jjwt 와 동일하게 secret 문자열을 base64 디코딩하여 key 로 사용한다
+     * @param algorithm HS256, HS384, HS512
+     * @param secretKey
+     * @return
+     */
+    public static TokenSigner hmac(String algorithm, String secretKey) {
+        return new HmacTokenSigner(algorithm, TextCodec.BASE64.decode(secretKey));
+    }
+
+    /**
+     * 비대칭키 signer 생성
+     * key 설정이 없다면 임시 key 를 생성한다 (재시작시 기존 토큰은 검증되지 않음)
+     * @param algorithm ES256, RS256, EdDSA
+     * @param privateKey base64 PKCS#8 DER
+     * @param publicKey base64 X.509 DER
+     * @return
+     */
+    public static SignatureTokenSigner asymmetric(String algorithm, String privateKey, String publicKey) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm(algorithm));
+            if (!StringUtils.hasText(publicKey)) {
+                log.warn("No key configured for {}. Generating an ephemeral key pair.", algorithm);
+                KeyPair keyPair = generateKeyPair(algorithm);
+                return new SignatureTokenSigner(algorithm, keyPair.getPrivate(), keyPair.getPublic());
+            }
+            PublicKey pub = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(publicKey)));
+            PrivateKey priv = StringUtils.hasText(privateKey)
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(privateKey)))
+                    : null;
+            return new SignatureTokenSigner(algorithm, priv, pub);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to load " + algorithm + " key.", e);
+        }
+    }
+
+    /**
+     * 알고리즘 이름으로 signer 생성
+     * @param algorithm
+     * @param secretKey HMAC 인 경우 사용
+     * @param privateKey 비대칭키인 경우 사용
+     * @param publicKey 비대칭키인 경우 사용
+     * @return
+     */
+    public static TokenSigner create(String algorithm, String secretKey, String privateKey, String publicKey) {
+        if (algorithm.startsWith("HS")) {
+            return hmac(algorithm, secretKey);
+        }
+        return asymmetric(algorithm, privateKey, publicKey);
+    }
+
+    /**
+     * 알고리즘에 맞는 key pair 생성
+     * @param algorithm
+     * @return
+     * @throws GeneralSecurityException
+     */
+    public static KeyPair generateKeyPair(String algorithm) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm(algorithm));
+        if ("ES256".equals(algorithm)) {
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        } else if ("RS256".equals(algorithm)) {
+            generator.initialize(2048);
+        }
+        return generator.generateKeyPair();
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static String keyAlgorithm(String algorithm) {
+        switch (algorithm) {
+            case "ES256":
+                return "EC";
+            case "RS256":
+                return "RSA";
+            case "EdDSA":
+                return "Ed25519";
+            default:
+                throw new IllegalArgumentException("Unsupported signature algorithm: " + algorithm);
+        }
+    }
+}
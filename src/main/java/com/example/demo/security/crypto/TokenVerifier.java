@@ -0,0 +1,34 @@
+package com.example.demo.security.crypto;
+
+/**
+ * 토큰 서명 검증
+ */
+public interface TokenVerifier {
+
+    /**
+     * JWS 알고리즘 이름 (HS512, ES256 ...)
+     * @return
+     */
+    String getAlgorithm();
+
+    /**
+     * 서명 검증
+     * @param content 서명 대상 (header.payload ASCII)
+     * @param signature JWS 형식 서명
+     * @return
+     */
+    default boolean verify(byte[] content, byte[] signature) {
+        return verify(content, 0, content.length, signature);
+    }
+
+    /**
+     * 서명 검증
+     * 토큰 전체 byte 배열에서 header.payload 부분만 복사 없이 검증할 때 사용
+     * @param content
+     * @param offset
+     * @param length
+     * @param signature JWS 형식 서명
+     * @return
+     */
+    boolean verify(byte[] content, int offset, int length, byte[] signature);
+}
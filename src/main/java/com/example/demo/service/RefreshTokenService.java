@@ -0,0 +1,162 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.RefreshToken;
+import com.example.demo.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * refresh 토큰 발급/rotation/정리
+ * - 토큰은 임의의 256bit 문자열이며 DB 에는 hash 만 저장한다
+ * - 사용할 때마다 새 토큰으로 교체하고, 이미 사용된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다
+ * - 만료된 토큰은 작은 batch 로 나누어 삭제하여 긴 lock 을 만들지 않는다
+ */
+@Service
+public class RefreshTokenService {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Value("${jwt.refreshExpirationTime}")
+    private Long refreshExpirationTime;
+
+    // 한번에 삭제할 최대 건수
+    @Value("${jwt.refresh.cleanupBatchSize:1000}")
+    private int cleanupBatchSize;
+
+    @Autowired
+    private RefreshTokenRepository _refreshTokenRepository;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 새 로그인에 대한 refresh 토큰 발급
+     * @param userId
+     * @return 토큰 원문
+     */
+    @Transactional
+    public String issue(String userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * refresh 토큰 교체
+     * 같은 토큰으로 두 요청이 동시에 들어오면 (여러 탭의 동시 refresh 등) 늦은 요청은 markUsed 가 0 이 되어
+     * 먼저 발급된 새 토큰을 포함한 family 전체를 폐기하므로 양쪽 모두 다시 로그인해야 한다
+     * 정상 client 의 경합과 탈취를 구분할 수 없으므로 유예 시간 없이 폐기하는 의도된 엄격함이다
+     * @param token 토큰 원문
+     * @return 새 토큰, 유효하지 않거나 재사용된 토큰이라면 null
+     */
+    @Transactional
+    public Rotation rotate(String token) {
+        if (null == token) {
+            return null;
+        }
+        RefreshToken refreshToken = _refreshTokenRepository.findByTokenHash(hash(token));
+        if (null == refreshToken) {
+            return null;
+        }
+        // 이미 사용된 토큰 (동시에 들어온 요청 포함)
+        if (refreshToken.getUsed() || 0 == _refreshTokenRepository.markUsed(refreshToken.getId())) {
+            log.warn("Refresh token reuse detected. revoking family {}", refreshToken.getFamilyId());
+            _refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId());
+            return null;
+        }
+        if (refreshToken.getExpiresAt().before(new Date())) {
+            return null;
+        }
+        String next = issue(refreshToken.getUserId(), refreshToken.getFamilyId());
+        return new Rotation(refreshToken.getUserId(), next);
+    }
+
+    /**
+     * 만료된 토큰 정리
+     * batch 마다 별도 transaction 으로 삭제한다
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.cleanupInterval:600000}")
+    public void deleteExpired() {
+        Date now = new Date();
+        long total = 0L;
+        int deleted;
+        do {
+            deleted = _refreshTokenRepository.deleteExpired(now, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+        if (total > 0L) {
+            log.info("Deleted {} expired refresh tokens.", total);
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private String issue(String userId, String familyId) {
+        byte[] random = new byte[32];
+        RANDOM.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        Date expiresAt = new Date(System.currentTimeMillis() + refreshExpirationTime);
+        _refreshTokenRepository.save(new RefreshToken(hash(token), userId, familyId, expiresAt));
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 교체 결과
+     */
+    public static class Rotation {
+
+        private final String userId;
+
+        private final String refreshToken;
+
+        public Rotation(String userId, String refreshToken) {
+            this.userId = userId;
+            this.refreshToken = refreshToken;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+}
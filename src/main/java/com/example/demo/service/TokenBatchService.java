@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.User;
+import com.example.demo.security.JwtTokenUtil;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * access 토큰 일괄 발급
+ * - 사용자는 IN 쿼리 한번으로 조회한다
+ * - 서명은 tokenSigningExecutor 에서 병렬로 처리하고, 결과는 요청 순서대로 한 줄씩(NDJSON) 바로 내보낸다
+ * - 진행중인 서명은 window 크기로 제한하므로 결과 전체를 메모리에 두지 않는다
+ */
+@Service
+public class TokenBatchService {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // 한 요청에서 발급할 수 있는 최대 토큰 수
+    @Value("${jwt.batch.maxSize:10000}")
+    private int maxSize;
+
+    // 동시에 진행할 서명 수
+    @Value("${jwt.batch.window:256}")
+    private int window;
+
+    @Autowired
+    private UserService _userService;
+
+    @Autowired
+    private JwtTokenUtil _tokenUtil;
+
+    @Autowired
+    private ThreadPoolTaskExecutor tokenSigningExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 요청 크기 확인
+     * @param emails
+     * @return 비어있거나 최대 건수를 넘으면 false
+     */
+    public boolean isAcceptable(Collection<String> emails) {
+        return null != emails && !emails.isEmpty() && emails.size() <= maxSize;
+    }
+
+    /**
+     * 토큰 발급 후 NDJSON 으로 기록
+     * 한 줄 : {"email":..,"accessToken":..} 또는 {"email":..,"error":"NOT_FOUND"}
+     * @param emails
+     * @param out
+     * @throws IOException
+     */
+    public void issue(Collection<String> emails, OutputStream out) throws IOException {
+        Set<String> distinct = new LinkedHashSet<>(emails);
+        // DB 비교는 대소문자를 구분하지 않으므로 (collation) 양쪽 모두 소문자로 맞춰 찾는다
+        Map<String, User> users = new HashMap<>();
+        for (User user : _userService.getUsersByEmails(distinct)) {
+            users.put(user.getEmail().toLowerCase(Locale.ROOT), user);
+        }
+
+        Deque<Pending> pending = new ArrayDeque<>(window);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 줄 구분은 직접 기록 (기본 구분자는 공백)
+            generator.setRootValueSeparator(null);
+            for (String email : distinct) {
+                User user = null == email ? null : users.get(email.toLowerCase(Locale.ROOT));
+                CompletableFuture<String> future = null == user
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.supplyAsync(() -> _tokenUtil.generateAccessToken(user), tokenSigningExecutor);
+                pending.addLast(new Pending(email, future));
+                if (pending.size() >= window) {
+                    write(generator, pending.removeFirst());
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(generator, pending.removeFirst());
+            }
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static void write(JsonGenerator generator, Pending pending) throws IOException {
+        String token = pending.future.join();
+        generator.writeStartObject();
+        generator.writeStringField("email", pending.email);
+        if (null != token) {
+            generator.writeStringField("accessToken", token);
+        } else {
+            generator.writeStringField("error", "NOT_FOUND");
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static class Pending {
+
+        private final String email;
+
+        private final CompletableFuture<String> future;
+
+        private Pending(String email, CompletableFuture<String> future) {
+            this.email = email;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.TimeOrderedUuidGenerator;
+import com.example.demo.domain.User;
+import com.example.demo.payload.ImportResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사용자 일괄 등록 (CSV, NDJSON)
+ * - multipart 를 파일로 저장하지 않고 commons-fileupload streaming API 로 한 줄씩 읽는다
+ * - 검증을 통과한 row 는 chunk 단위 transaction 안에서 JDBC batch 로 insert 한다
+ * - chunk 가 실패하면 (중복 등) 해당 chunk 만 row 단위로 다시 시도하여 실패한 row 만 결과에 남긴다
+ */
+@Service
+public class UserImportService {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private static final String INSERT_SQL = "INSERT INTO `user` (id, name, email, admin_flag) VALUES (?, ?, ?, ?)";
+
+    // JDBC batch 크기
+    @Value("${user.import.batchSize:500}")
+    private int batchSize;
+
+    // transaction 하나에 넣을 row 수
+    @Value("${user.import.chunkSize:5000}")
+    private int chunkSize;
+
+    // 결과에 포함할 최대 실패 row 수
+    @Value("${user.import.maxFailures:1000}")
+    private int maxFailures;
+
+    @Autowired
+    private JdbcTemplate _jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate _transactionTemplate;
+
+    @Autowired
+    private ObjectMapper _objectMapper;
+
+    @Autowired
+    private UserService _userService;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * multipart 요청의 파일들을 읽어 사용자 등록
+     * 파일 형식은 content type 또는 확장자로 판단한다 (json, ndjson, jsonl 이외에는 CSV)
+     * @param request
+     * @return
+     * @throws IOException
+     * @throws FileUploadException
+     */
+    public ImportResult importUsers(HttpServletRequest request) throws IOException, FileUploadException {
+        ImportResult result = new ImportResult(maxFailures);
+        FileItemIterator items = new ServletFileUpload().getItemIterator(request);
+        while (items.hasNext()) {
+            FileItemStream item = items.next();
+            if (item.isFormField()) {
+                continue;
+            }
+            try (InputStream in = item.openStream()) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                if (isJson(item)) {
+                    readNdjson(reader, result);
+                } else {
+                    readCsv(reader, result);
+                }
+            }
+        }
+        log.info("Imported users. total: {}, inserted: {}, failed: {}",
+                result.getTotal(), result.getInserted(), result.getFailed());
+        return result;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static boolean isJson(FileItemStream item) {
+        String contentType = null == item.getContentType() ? "" : item.getContentType().toLowerCase(Locale.ROOT);
+        String name = null == item.getName() ? "" : item.getName().toLowerCase(Locale.ROOT);
+        return contentType.contains("json")
+                || name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json");
+    }
+
+    /**
+     * NDJSON : {"name":..,"email":..,"adminFlag":..} 한 줄에 하나
+     * @param reader
+     * @param result
+     * @throws IOException
+     */
+    private void readNdjson(BufferedReader reader, ImportResult result) throws IOException {
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        String line;
+        long lineNumber = 0L;
+        while (null != (line = reader.readLine())) {
+            lineNumber++;
+            if (!StringUtils.hasText(line)) {
+                continue;
+            }
+            result.addRows(1);
+            JsonNode node;
+            try {
+                node = _objectMapper.readTree(line);
+            } catch (IOException e) {
+                result.addFailure(lineNumber, null, "INVALID_JSON");
+                continue;
+            }
+            Row row = new Row(lineNumber, text(node, "name"), text(node, "email"),
+                    node.path("adminFlag").asBoolean(false));
+            add(chunk, row, result);
+        }
+        flush(chunk, result);
+    }
+
+    /**
+     * CSV : 첫 줄은 header (name, email, adminFlag)
+     * 값 안의 줄바꿈은 지원하지 않는다
+     * @param reader
+     * @param result
+     * @throws IOException
+     */
+    private void readCsv(BufferedReader reader, ImportResult result) throws IOException {
+        String header = reader.readLine();
+        if (null == header) {
+            return;
+        }
+        List<String> columns = parseCsvLine(header);
+        int nameIndex = indexOf(columns, "name");
+        int emailIndex = indexOf(columns, "email");
+        int adminIndex = indexOf(columns, "adminflag");
+        if (nameIndex < 0 || emailIndex < 0) {
+            result.addFailure(1L, null, "MISSING_HEADER");
+            return;
+        }
+
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        String line;
+        long lineNumber = 1L;
+        while (null != (line = reader.readLine())) {
+            lineNumber++;
+            if (!StringUtils.hasText(line)) {
+                continue;
+            }
+            result.addRows(1);
+            List<String> values = parseCsvLine(line);
+            Row row = new Row(lineNumber, value(values, nameIndex), value(values, emailIndex),
+                    Boolean.parseBoolean(value(values, adminIndex)));
+            add(chunk, row, result);
+        }
+        flush(chunk, result);
+    }
+
+    /**
+     * 검증 ({@link UserService#isValid(User)}, 단건 등록과 같은 기준) 후 chunk 에 추가, chunk 가 가득 차면 insert
+     */
+    private void add(List<Row> chunk, Row row, ImportResult result) {
+        if (!_userService.isValid(new User(row.name, row.email, row.adminFlag))) {
+            // 실패 사유 구분
+            result.addFailure(row.line, row.email, StringUtils.hasText(row.name) ? "INVALID_EMAIL" : "INVALID_NAME");
+            return;
+        }
+        chunk.add(row);
+        if (chunk.size() >= chunkSize) {
+            flush(chunk, result);
+        }
+    }
+
+    /**
+     * chunk 를 transaction 하나로 batch insert
+     * 실패하면 rollback 후 row 단위로 다시 시도한다
+     */
+    private void flush(List<Row> chunk, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            _transactionTemplate.execute(status -> _jdbcTemplate.batchUpdate(INSERT_SQL, chunk, batchSize, UserImportService::bind));
+            result.addInserted(chunk.size());
+        } catch (DataAccessException e) {
+            log.debug("Batch insert failed. retrying row by row: {}", e.getMessage());
+            for (Row row : chunk) {
+                try {
+                    _jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row));
+                    result.addInserted(1);
+                } catch (DuplicateKeyException rowException) {
+                    result.addFailure(row.line, row.email, "ALREADY_EXISTS");
+                } catch (DataAccessException rowException) {
+                    result.addFailure(row.line, row.email, "INSERT_FAILED");
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private static void bind(PreparedStatement ps, Row row) throws SQLException {
+        ps.setBytes(1, TimeOrderedUuidGenerator.toBytes(TimeOrderedUuidGenerator.generate()));
+        ps.setString(2, row.name);
+        ps.setString(3, row.email);
+        ps.setBoolean(4, row.adminFlag);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return null == value || value.isNull() ? null : value.asText().trim();
+    }
+
+    private static String value(List<String> values, int index) {
+        return index < 0 || index >= values.size() ? null : values.get(index).trim();
+    }
+
+    private static int indexOf(List<String> columns, String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표, "" escape 지원)
+     * @param line
+     * @return
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static class Row {
+
+        private final long line;
+
+        private final String name;
+
+        private final String email;
+
+        private final boolean adminFlag;
+
+        private Row(long line, String name, String email, boolean adminFlag) {
+            this.line = line;
+            this.name = name;
+            this.email = email;
+            this.adminFlag = adminFlag;
+        }
+    }
+}
@@ -1,11 +1,30 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.User;
+import com.example.demo.invalidation.InvalidationBus;
+import com.example.demo.payload.UserPage;
+import com.example.demo.payload.UserSummary;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.AuthMetrics;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.commons.validator.routines.EmailValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class UserService {
@@ -17,6 +36,15 @@ public class UserService {
     @Autowired
     private UserRepository _userRepository;
 
+    @Autowired
+    private InvalidationBus _invalidationBus;
+
+    @Autowired
+    private AuthMetrics _authMetrics;
+
+    @Autowired
+    private ObjectMapper _objectMapper;
+
     /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
     | Public Variables
     |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
@@ -43,21 +71,38 @@ public class UserService {
 
     /**
      * Save user with email
+     * 미리 조회하지 않고 insert 한번으로 등록하며, 중복은 unique index 로 판단한다
      * @param user {User}
-     * @return User
+     * @return User, 같은 email 또는 name 이 이미 있다면 null
+     * @throws IllegalArgumentException {@link #isValid(User)} 를 통과하지 못한 사용자 (controller 에서 400 으로 응답)
      */
     public User saveUser(User user) {
-        User userDetail = _userRepository.findByEmail(user.getEmail());
-        if (userDetail == null) {
-            userDetail = _userRepository.save(user);
-        } else {
-            userDetail = null;
+        // JdbcTemplate insert 는 JPA bean validation (@Email) 을 거치지 않음
+        if (!isValid(user)) {
+            throw new IllegalArgumentException("Invalid user: name and a valid email are required.");
+        }
+        if (!_userRepository.insertIfAbsent(user)) {
+            return null;
         }
-        System.out.print("saved user --> " + userDetail);
-        return userDetail;
+        // 인증 캐시에 남아있는 이전 정보 제거 (다른 node 포함)
+        _invalidationBus.userChanged(user.getId(), user.getEmail());
+        return user;
 
     } // end of saveUserWithEmail
 
+    /**
+     * 등록할 수 있는 사용자 정보인지 확인 (이름 필수, email 형식)
+     * 일괄 등록 (UserImportService) 도 이 기준으로 row 를 검증한다
+     * @param user
+     * @return
+     */
+    public boolean isValid(User user) {
+        return null != user
+                && StringUtils.hasText(user.getName())
+                && null != user.getEmail()
+                && EmailValidator.getInstance().isValid(user.getEmail());
+    }
+
     /**
      * Fetch all users
      * @return List<Users>
@@ -66,13 +111,62 @@ public class UserService {
         return _userRepository.findAll();
     }
 
+    /**
+     * 사용자 목록 한 페이지 (keyset)
+     * @param after 이전 페이지의 next, 첫 페이지라면 null
+     * @param size
+     * @return
+     */
+    public UserPage getUserPage(UUID after, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        List<UserSummary> users = null == after
+                ? _userRepository.findSummaries(limit)
+                : _userRepository.findSummariesAfter(after, limit);
+        // 가득 찼다면 다음 페이지가 있을 수 있음
+        String next = users.size() == size ? users.get(users.size() - 1).getId() : null;
+        return new UserPage(users, next);
+    }
+
+    /**
+     * 전체 사용자를 NDJSON 으로 기록
+     * cursor 로 한 row 씩 읽어 바로 쓰므로 사용자 수와 관계없이 메모리 사용량이 일정하다
+     * @param out
+     * @throws IOException
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(OutputStream out) throws IOException {
+        // row 마다 flush 하지 않고 generator buffer 가 찰 때 전송
+        ObjectWriter writer = _objectMapper.writerFor(UserSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<UserSummary> users = _userRepository.streamSummaries();
+             JsonGenerator generator = _objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 줄 구분은 직접 기록 (기본 구분자는 공백)
+            generator.setRootValueSeparator(null);
+            users.forEach(user -> {
+                try {
+                    writer.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     /**
      * Id로 사용자 조회
      * @param id {String}
      * @return User
      */
     public User getUserById(String id) {
-        return _userRepository.findById(id);
+        long start = System.nanoTime();
+        try {
+            return _userRepository.findById(id);
+        } finally {
+            _authMetrics.record(AuthMetrics.Stage.USER_LOOKUP, start);
+        }
     }
 
     /**
@@ -81,7 +175,21 @@ public class UserService {
      * @return
      */
     public User getUserByEmail(String email) {
-        return _userRepository.findByEmail(email);
+        long start = System.nanoTime();
+        try {
+            return _userRepository.findByEmail(email);
+        } finally {
+            _authMetrics.record(AuthMetrics.Stage.USER_LOOKUP, start);
+        }
+    }
+
+    /**
+     * 이메일 목록으로 사용자 조회 (IN 쿼리 한번)
+     * @param emails
+     * @return
+     */
+    public List<User> getUsersByEmails(Collection<String> emails) {
+        return _userRepository.findByEmailIn(emails);
     }
 
 
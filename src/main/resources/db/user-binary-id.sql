@@ -0,0 +1,15 @@
+-- user.id : VARCHAR(36) -> BINARY(16) 변환 (MySQL)
+-- ddl-auto=update 는 컬럼 타입을 바꾸지 않으므로 배포 전에 한번 실행한다
+-- 기존 id 값(문자열 UUID)은 그대로 유지되며, 새 사용자부터 시간순 UUID 가 발급된다
+-- 토큰의 id 클래임, refresh_token.user_id 는 문자열 형식 그대로이므로 변경 없음
+
+ALTER TABLE user ADD COLUMN id_bin BINARY(16) NULL AFTER id;
+
+-- 대량 테이블이라면 id 범위로 나누어 실행
+UPDATE user SET id_bin = UNHEX(REPLACE(id, '-', '')) WHERE id_bin IS NULL;
+
+ALTER TABLE user
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
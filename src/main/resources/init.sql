@@ -1 +1 @@
-INSERT INTO user (id, admin_flag, email, user_image_url, name) VALUES ('41dd8bb4-77e2-419f-ad6a-822e5cb0f826', false, 'circlegiven@exntu.com', null, '최원준');
\ No newline at end of file
+INSERT INTO user (id, admin_flag, email, user_image_url, name) VALUES (UNHEX(REPLACE('41dd8bb4-77e2-419f-ad6a-822e5cb0f826', '-', '')), false, 'circlegiven@exntu.com', null, '최원준');
\ No newline at end of file
@@ -0,0 +1,272 @@
+package com.example.demo.perf;
+
+import com.example.demo.domain.User;
+import com.example.demo.security.AuthMetrics;
+import com.example.demo.security.AuthenticationMode;
+import com.example.demo.security.CustomUserDetailsService;
+import com.example.demo.security.JwsCodec;
+import com.example.demo.security.JwtAuthenticationFilter;
+import com.example.demo.security.JwtTokenUtil;
+import com.example.demo.security.SigninUserCache;
+import com.example.demo.security.SigningKeyProvider;
+import com.example.demo.security.TokenFormat;
+import com.example.demo.security.TokenPrefilter;
+import com.example.demo.security.TokenRejectionLog;
+import com.example.demo.security.TokenRevocationStore;
+import com.example.demo.security.UserPrincipalCache;
+import com.example.demo.security.VerifiedTokenCache;
+import com.example.demo.service.RefreshTokenService;
+import com.example.demo.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 벤치마크용 인증 객체 구성
+ * spring context 없이 DB 조회는 고정된 사용자를 반환하는 stub 으로 대체한다
+ * stub 은 지정한 시간만큼 thread 를 멈춰 DB 왕복을 흉내낸다 (기본 0)
+ */
+public class AuthFixture {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final String SECRET = "JWTSuperSecretKey";
+
+    // Ed25519 (EdDSA) 를 지원하는 최소 JDK 버전
+    private static final int EDDSA_MIN_JAVA_VERSION = 15;
+
+    private final User user;
+
+    private final JwsCodec jwsCodec;
+
+    private final JwtTokenUtil tokenUtil;
+
+    private final JwtAuthenticationFilter filter;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Constructor
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * @param algorithm 서명 알고리즘
+     * @param nameLength 사용자 이름 길이 (토큰 크기 조절)
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     */
+    public AuthFixture(String algorithm, int nameLength, boolean cacheEnabled) throws Exception {
+        this(algorithm, nameLength, cacheEnabled, TokenFormat.JWS);
+    }
+
+    /**
+     * @param algorithm 서명 알고리즘
+     * @param nameLength 사용자 이름 길이 (토큰 크기 조절)
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     * @param format 발급 형식
+     */
+    public AuthFixture(String algorithm, int nameLength, boolean cacheEnabled, TokenFormat format) throws Exception {
+        this(algorithm, nameLength, cacheEnabled, format, true);
+    }
+
+    /**
+     * @param algorithm 서명 알고리즘
+     * @param nameLength 사용자 이름 길이 (토큰 크기 조절)
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     * @param format 발급 형식
+     * @param prefilterEnabled 서명 검증 전 사전 검사 사용 여부
+     */
+    public AuthFixture(String algorithm, int nameLength, boolean cacheEnabled, TokenFormat format,
+                       boolean prefilterEnabled) throws Exception {
+        this(algorithm, nameLength, cacheEnabled, format, prefilterEnabled, AuthenticationMode.DATABASE, 0L);
+    }
+
+    /**
+     * @param algorithm 서명 알고리즘
+     * @param nameLength 사용자 이름 길이 (토큰 크기 조절)
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     * @param mode principal 생성 방식
+     * @param userLookupMicros 사용자 조회 1건의 지연 시간 (us)
+     */
+    public AuthFixture(String algorithm, int nameLength, boolean cacheEnabled, AuthenticationMode mode,
+                       long userLookupMicros) throws Exception {
+        this(algorithm, nameLength, cacheEnabled, TokenFormat.JWS, true, mode, userLookupMicros);
+    }
+
+    /**
+     * @param algorithm 서명 알고리즘
+     * @param nameLength 사용자 이름 길이 (토큰 크기 조절)
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     * @param format 발급 형식
+     * @param prefilterEnabled 서명 검증 전 사전 검사 사용 여부
+     * @param mode principal 생성 방식
+     * @param userLookupMicros 사용자 조회 1건의 지연 시간 (us)
+     */
+    public AuthFixture(String algorithm, int nameLength, boolean cacheEnabled, TokenFormat format,
+                       boolean prefilterEnabled, AuthenticationMode mode, long userLookupMicros) throws Exception {
+        if ("EdDSA".equals(algorithm) && javaVersion() < EDDSA_MIN_JAVA_VERSION) {
+            // JMH 는 setup 이 실패한 조합만 건너뛰고 나머지를 계속 실행한다
+            throw new IllegalStateException("EdDSA requires JDK " + EDDSA_MIN_JAVA_VERSION
+                    + "+ (running " + System.getProperty("java.specification.version") + ")");
+        }
+        char[] name = new char[nameLength];
+        Arrays.fill(name, 'a');
+        user = new User(new String(name), "perf@example.com", true);
+        user.setId("41dd8bb4-77e2-419f-ad6a-822e5cb0f826");
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        AuthMetrics authMetrics = new AuthMetrics();
+        ReflectionTestUtils.setField(authMetrics, "meterRegistry", meterRegistry);
+        authMetrics.init();
+
+        SigningKeyProvider signingKeyProvider = new SigningKeyProvider();
+        ReflectionTestUtils.setField(signingKeyProvider, "algorithm", algorithm);
+        ReflectionTestUtils.setField(signingKeyProvider, "secretKey", SECRET);
+        signingKeyProvider.init();
+
+        jwsCodec = new JwsCodec();
+        ReflectionTestUtils.setField(jwsCodec, "format", format);
+        ReflectionTestUtils.setField(jwsCodec, "signingKeyProvider", signingKeyProvider);
+        ReflectionTestUtils.setField(jwsCodec, "authMetrics", authMetrics);
+
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", cacheEnabled);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maximumBytes", 33554432L);
+        ReflectionTestUtils.setField(verifiedTokenCache, "signingKeyProvider", signingKeyProvider);
+        ReflectionTestUtils.setField(verifiedTokenCache, "meterRegistry", meterRegistry);
+        verifiedTokenCache.init();
+
+        UserPrincipalCache userPrincipalCache = new UserPrincipalCache();
+        ReflectionTestUtils.setField(userPrincipalCache, "maximumSize", 10000L);
+        ReflectionTestUtils.setField(userPrincipalCache, "ttl", 60000L);
+        ReflectionTestUtils.setField(userPrincipalCache, "meterRegistry", meterRegistry);
+        userPrincipalCache.init();
+
+        TokenRevocationStore tokenRevocationStore = new TokenRevocationStore();
+        ReflectionTestUtils.setField(tokenRevocationStore, "expectedInsertions", 100000L);
+        ReflectionTestUtils.setField(tokenRevocationStore, "falsePositiveRate", 0.01d);
+        ReflectionTestUtils.setField(tokenRevocationStore, "meterRegistry", meterRegistry);
+        tokenRevocationStore.init();
+
+        TokenPrefilter tokenPrefilter = new TokenPrefilter();
+        ReflectionTestUtils.setField(tokenPrefilter, "enabled", prefilterEnabled);
+        ReflectionTestUtils.setField(tokenPrefilter, "maxLength", 8192);
+        ReflectionTestUtils.setField(tokenPrefilter, "maximumBytes", 4194304L);
+        ReflectionTestUtils.setField(tokenPrefilter, "ttl", 60000L);
+        ReflectionTestUtils.setField(tokenPrefilter, "meterRegistry", meterRegistry);
+        tokenPrefilter.init();
+
+        TokenRejectionLog tokenRejectionLog = new TokenRejectionLog();
+        ReflectionTestUtils.setField(tokenRejectionLog, "interval", 60000L);
+
+        // 발급 벤치마크가 매번 사용자를 조회하도록 로그인 캐시는 사용하지 않음
+        SigninUserCache signinUserCache = new SigninUserCache();
+        ReflectionTestUtils.setField(signinUserCache, "enabled", false);
+        ReflectionTestUtils.setField(signinUserCache, "maximumSize", 10000L);
+        ReflectionTestUtils.setField(signinUserCache, "window", 60000L);
+        ReflectionTestUtils.setField(signinUserCache, "meterRegistry", meterRegistry);
+        signinUserCache.init();
+
+        tokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(tokenUtil, "expirationTime", 1800000L);
+        ReflectionTestUtils.setField(tokenUtil, "authenticationMode", mode);
+        ReflectionTestUtils.setField(tokenUtil, "userService", new StubUserService(user, userLookupMicros));
+        ReflectionTestUtils.setField(tokenUtil, "refreshTokenService", new StubRefreshTokenService());
+        ReflectionTestUtils.setField(tokenUtil, "jwsCodec", jwsCodec);
+        ReflectionTestUtils.setField(tokenUtil, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.setField(tokenUtil, "userPrincipalCache", userPrincipalCache);
+        ReflectionTestUtils.setField(tokenUtil, "tokenRevocationStore", tokenRevocationStore);
+        ReflectionTestUtils.setField(tokenUtil, "signinUserCache", signinUserCache);
+        ReflectionTestUtils.setField(tokenUtil, "tokenPrefilter", tokenPrefilter);
+        ReflectionTestUtils.setField(tokenUtil, "tokenRejectionLog", tokenRejectionLog);
+        ReflectionTestUtils.setField(tokenUtil, "authMetrics", authMetrics);
+
+        filter = new JwtAuthenticationFilter(new CustomUserDetailsService(), tokenUtil, authMetrics);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Getter & Setter Method ( DI Method )
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public User getUser() {
+        return user;
+    }
+
+    public JwsCodec getJwsCodec() {
+        return jwsCodec;
+    }
+
+    public JwtTokenUtil getTokenUtil() {
+        return tokenUtil;
+    }
+
+    public JwtAuthenticationFilter getFilter() {
+        return filter;
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 실행중인 JDK 의 major 버전 (1.8 -> 8)
+     * @return
+     */
+    private static int javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * 지연 후 항상 같은 사용자를 반환
+     */
+    private static class StubUserService extends UserService {
+
+        private final User user;
+
+        private final long lookupNanos;
+
+        private StubUserService(User user, long lookupMicros) {
+            this.user = user;
+            this.lookupNanos = TimeUnit.MICROSECONDS.toNanos(lookupMicros);
+        }
+
+        @Override
+        public User getUserByEmail(String email) {
+            lookup();
+            return user;
+        }
+
+        @Override
+        public User getUserById(String id) {
+            lookup();
+            return user;
+        }
+
+        // DB 왕복 (CPU 를 쓰지 않고 대기)
+        private void lookup() {
+            if (lookupNanos > 0L) {
+                LockSupport.parkNanos(lookupNanos);
+            }
+        }
+    }
+
+    /**
+     * DB 저장 없이 고정된 refresh 토큰 반환
+     */
+    private static class StubRefreshTokenService extends RefreshTokenService {
+
+        @Override
+        public String issue(String userId) {
+            return "q2Vk0a4n0fQ2m3mY9y8Jx7mW1c4nXb2hZ5uT6rE8sA0";
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.perf;
+
+import com.example.demo.security.JwtAccessDeniedHandler;
+import com.example.demo.security.JwtAuthenticationEntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.web.ErrorProperties;
+import org.springframework.boot.autoconfigure.web.servlet.error.BasicErrorController;
+import org.springframework.boot.web.servlet.error.DefaultErrorAttributes;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 거부된 요청 1건당 응답 비용
+ * - sendErrorDispatch : 기존 방식, sendError 후 컨테이너가 /error 로 dispatch 하는 것을
+ *   BasicErrorController (MVC + Jackson) 호출로 재현
+ * - preparedUnauthorized / preparedForbidden : 미리 직렬화한 응답을 바로 쓰기
+ * 실제 컨테이너의 error page 처리 (request wrapping, 두번째 filter chain) 는 포함되지 않으므로
+ * sendErrorDispatch 는 하한값이다
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final InsufficientAuthenticationException UNAUTHENTICATED =
+            new InsufficientAuthenticationException("Full authentication is required to access this resource");
+
+    private static final AccessDeniedException DENIED = new AccessDeniedException("Access is denied");
+
+    private MockMvc errorMvc;
+
+    private JwtAuthenticationEntryPoint entryPoint;
+
+    private JwtAccessDeniedHandler accessDeniedHandler;
+
+    private MockHttpServletRequest request;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup
+    public void setup() {
+        errorMvc = MockMvcBuilders
+                .standaloneSetup(new BasicErrorController(new DefaultErrorAttributes(), new ErrorProperties()))
+                .build();
+        entryPoint = new JwtAuthenticationEntryPoint();
+        accessDeniedHandler = new JwtAccessDeniedHandler();
+        request = new MockHttpServletRequest("GET", "/api/user");
+    }
+
+    @Benchmark
+    public int sendErrorDispatch() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "UNAUTHORIZED");
+        return errorMvc.perform(get("/error")
+                .accept(MediaType.APPLICATION_JSON)
+                .requestAttr(RequestDispatcher.ERROR_STATUS_CODE, HttpServletResponse.SC_UNAUTHORIZED)
+                .requestAttr(RequestDispatcher.ERROR_REQUEST_URI, "/api/user")
+                .requestAttr(RequestDispatcher.ERROR_MESSAGE, "UNAUTHORIZED"))
+                .andReturn().getResponse().getContentLength();
+    }
+
+    @Benchmark
+    public int preparedUnauthorized() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        entryPoint.commence(request, response, UNAUTHENTICATED);
+        return response.getContentLength();
+    }
+
+    @Benchmark
+    public int preparedForbidden() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        accessDeniedHandler.handle(request, response, DENIED);
+        return response.getContentLength();
+    }
+}
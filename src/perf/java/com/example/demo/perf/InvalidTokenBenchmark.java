@@ -0,0 +1,95 @@
+package com.example.demo.perf;
+
+import com.example.demo.domain.User;
+import com.example.demo.security.JwtTokenUtil;
+import com.example.demo.security.TokenClaims;
+import com.example.demo.security.TokenFormat;
+import com.example.demo.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 토큰이 반복해서 들어올 때 거부 비용
+ * - GARBAGE : 토큰 형식이 아닌 값
+ * - EXPIRED : 서명은 올바르지만 만료된 토큰
+ * - FORGED : 서명이 변조된 토큰
+ * prefilter=false 는 사전 검사 없이 매번 서명 검증까지 수행하는 기존 동작
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class InvalidTokenBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Parameters
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Param({"GARBAGE", "EXPIRED", "FORGED"})
+    public String kind;
+
+    @Param({"true", "false"})
+    public boolean prefilter;
+
+    @Param({"HS512", "ES256"})
+    public String algorithm;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private JwtTokenUtil tokenUtil;
+
+    private String token;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup
+    public void setup() throws Exception {
+        AuthFixture fixture = new AuthFixture(algorithm, 16, true, TokenFormat.JWS, prefilter);
+        tokenUtil = fixture.getTokenUtil();
+        User user = fixture.getUser();
+        long now = System.currentTimeMillis() / 1000L;
+
+        switch (kind) {
+            case "GARBAGE":
+                token = "undefined";
+                break;
+            case "EXPIRED":
+                token = fixture.getJwsCodec().encode(new TokenClaims(user.getId(), "Dy1QpV3yTz2bG8eJ4m7rKw",
+                        user.getId(), user.getEmail(), user.getName(), user.getAdminFlag(), now - 3600L, now - 1800L));
+                break;
+            case "FORGED":
+                String valid = fixture.getJwsCodec().encode(new TokenClaims(user.getId(), "Dy1QpV3yTz2bG8eJ4m7rKw",
+                        user.getId(), user.getEmail(), user.getName(), user.getAdminFlag(), now, now + 1800L));
+                int signature = valid.lastIndexOf('.') + 1;
+                char first = valid.charAt(signature);
+                token = valid.substring(0, signature) + (first == 'A' ? 'B' : 'A') + valid.substring(signature + 1);
+                break;
+            default:
+                throw new IllegalArgumentException(kind);
+        }
+    }
+
+    @Benchmark
+    public VerifiedToken reject() {
+        return tokenUtil.verifyToken(token);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.perf;
+
+import com.example.demo.security.AuthenticationMode;
+import com.example.demo.security.JwtAuthenticationFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 전체 처리 벤치마크 (mock servlet 객체 사용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Parameters
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Param({"HS256", "HS512", "ES256", "RS256"})
+    public String algorithm;
+
+    @Param({"16", "1024"})
+    public int nameLength;
+
+    @Param({"false"})
+    public boolean cacheEnabled;
+
+    // principal 생성 방식 (DATABASE 는 principal 캐시 miss 시 사용자 조회)
+    @Param({"DATABASE", "CLAIMS"})
+    public AuthenticationMode mode;
+
+    // 사용자 조회 1건의 지연 시간 (us)
+    @Param({"200"})
+    public long userLookupMicros;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup
+    public void setup() throws Exception {
+        AuthFixture fixture = new AuthFixture(algorithm, nameLength, cacheEnabled, mode, userLookupMicros);
+        filter = fixture.getFilter();
+        String token = fixture.getTokenUtil().generateToken(fixture.getUser().getEmail()).getAccessToken();
+        request = new MockHttpServletRequest("GET", "/api/user");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.perf;
+
+import com.example.demo.payload.JwtAuthenticationResponse;
+import com.example.demo.security.AuthenticationMode;
+import com.example.demo.security.JwtTokenUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenUtil hot path 벤치마크
+ * 할당량은 -prof gc 로 확인 (gc.alloc.rate.norm)
+ * EdDSA 는 JDK 15 이상에서만 실행되며, 그 이하에서는 해당 조합만 setup 에서 실패한다 (-p algorithm=... 로 제외 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenUtilBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Parameters
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Param({"HS256", "HS384", "HS512", "ES256", "RS256", "EdDSA"})
+    public String algorithm;
+
+    // 사용자 이름 길이 (토큰 크기)
+    @Param({"16", "1024"})
+    public int nameLength;
+
+    // false 라면 매번 서명 검증
+    @Param({"false"})
+    public boolean cacheEnabled;
+
+    // principal 생성 방식 (DATABASE 는 principal 캐시 miss 시 사용자 조회)
+    @Param({"DATABASE", "CLAIMS"})
+    public AuthenticationMode mode;
+
+    // 사용자 조회 1건의 지연 시간 (us)
+    @Param({"200"})
+    public long userLookupMicros;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private JwtTokenUtil tokenUtil;
+
+    private String email;
+
+    private String token;
+
+    private String header;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup
+    public void setup() throws Exception {
+        AuthFixture fixture = new AuthFixture(algorithm, nameLength, cacheEnabled, mode, userLookupMicros);
+        tokenUtil = fixture.getTokenUtil();
+        email = fixture.getUser().getEmail();
+        token = tokenUtil.generateToken(email).getAccessToken();
+        header = "Bearer " + token;
+    }
+
+    @Benchmark
+    public JwtAuthenticationResponse generateToken() {
+        return tokenUtil.generateToken(email);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return tokenUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenUtil.getAuthentication(token);
+    }
+
+    @Benchmark
+    public String getJwtFromToken() {
+        return tokenUtil.getJwtFromToken(header);
+    }
+}
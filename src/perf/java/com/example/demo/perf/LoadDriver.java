@@ -0,0 +1,305 @@
+package com.example.demo.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 driver
+ * load 프로필로 실행된 서버에 signin/refresh/user/test 요청을 지정한 비율로 보내고
+ * 요청별 latency percentile (HdrHistogram) 과 처리량을 리포트 파일로 남긴다
+ *
+ * 설정 (system property)
+ * - load.baseUrl : 서버 주소 (http://localhost:8081)
+ * - load.threads : 동시 요청 수 (16)
+ * - load.warmup / load.duration : 워밍업, 측정 시간 (초, 10 / 60)
+ * - load.users : 서버에 생성된 사용자 수 (1000)
+ * - load.mix : 요청 비율 (signin=10,refresh=10,user=20,test=60)
+ * - load.report : 리포트 파일 (target/load-report.txt)
+ * - load.label : 리포트에 남길 실행 구분 (servlet, reactive 등)
+ *
+ * servlet / reactive 스택 비교는 같은 설정으로 서버를 load 와 load,reactive 프로필로 각각 실행하고
+ * load.report 를 다르게 지정하여 두 리포트를 비교한다 (동시 요청 수가 많을수록 차이가 드러난다)
+ * platform / virtual thread 비교도 같은 방법으로 spring.threads.virtual.enabled 만 바꿔 실행한다 (Java 21)
+ */
+public class LoadDriver {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // 기록 가능한 최대 latency (1분, ns)
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(1);
+
+    private final String baseUrl = System.getProperty("load.baseUrl", "http://localhost:8081");
+
+    private final int threads = Integer.getInteger("load.threads", 16);
+
+    private final int warmupSeconds = Integer.getInteger("load.warmup", 10);
+
+    private final int durationSeconds = Integer.getInteger("load.duration", 60);
+
+    private final int users = Integer.getInteger("load.users", 1000);
+
+    private final String mix = System.getProperty("load.mix", "signin=10,refresh=10,user=20,test=60");
+
+    private final Path report = Paths.get(System.getProperty("load.report", "target/load-report.txt"));
+
+    private final String label = System.getProperty("load.label", "");
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    // 누적 비율 (Operation 순서)
+    private final int[] cumulativeWeights = new int[Operation.values().length];
+
+    private CloseableHttpClient client;
+
+    private volatile boolean running = true;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver().run();
+    }
+
+    public void run() throws Exception {
+        parseMix();
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE, 3));
+            errors.put(operation, new LongAdder());
+        }
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(threads);
+        connectionManager.setDefaultMaxPerRoute(threads);
+        client = HttpClients.custom().setConnectionManager(connectionManager).build();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.submit(this::work);
+        }
+
+        // 워밍업 구간 기록은 버림
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        for (Operation operation : Operation.values()) {
+            errors.get(operation).reset();
+            recorders.get(operation).getIntervalHistogram();
+        }
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+        client.close();
+
+        writeReport(histograms, elapsedSeconds);
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    /**
+     * worker 별로 한 사용자 session 을 유지하며 요청
+     * refresh 토큰은 한번만 사용할 수 있으므로 session 을 thread 간에 공유하지 않는다
+     */
+    private void work() {
+        Session session = new Session();
+        while (running) {
+            Operation operation = null == session.accessToken ? Operation.SIGNIN : nextOperation();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation, session);
+            } catch (IOException e) {
+                success = false;
+            }
+            recorders.get(operation).recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE));
+            if (!success) {
+                errors.get(operation).increment();
+                if (operation == Operation.REFRESH) {
+                    session.accessToken = null;
+                }
+            }
+        }
+    }
+
+    private boolean execute(Operation operation, Session session) throws IOException {
+        switch (operation) {
+            case SIGNIN: {
+                String email = "load-user-" + ThreadLocalRandom.current().nextInt(users) + "@example.com";
+                String body = send(new HttpPost(baseUrl + "/api/auth/signin?email=" + encode(email)));
+                if (null == body) {
+                    return false;
+                }
+                session.update(MAPPER.readTree(body));
+                return null != session.accessToken;
+            }
+            case REFRESH: {
+                String body = send(new HttpGet(baseUrl + "/api/auth/refresh?refresh_token=" + encode(session.refreshToken)));
+                if (null == body || body.isEmpty()) {
+                    return false;
+                }
+                session.update(MAPPER.readTree(body));
+                return null != session.accessToken;
+            }
+            case USER:
+                return null != send(authorized(new HttpGet(baseUrl + "/api/user"), session));
+            case TEST:
+                return null != send(authorized(new HttpGet(baseUrl + "/test/get"), session));
+            default:
+                throw new IllegalStateException(operation.name());
+        }
+    }
+
+    /**
+     * 요청 전송
+     * @param request
+     * @return 2xx 라면 응답 body, 아니라면 null
+     * @throws IOException
+     */
+    private String send(HttpUriRequest request) throws IOException {
+        try (CloseableHttpResponse response = client.execute(request)) {
+            String body = null == response.getEntity() ? "" : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+            int status = response.getStatusLine().getStatusCode();
+            return status >= 200 && status < 300 ? body : null;
+        }
+    }
+
+    private static HttpUriRequest authorized(HttpUriRequest request, Session session) {
+        request.setHeader("Authorization", "Bearer " + session.accessToken);
+        return request;
+    }
+
+    private static String encode(String value) throws IOException {
+        return URLEncoder.encode(null == value ? "" : value, "UTF-8");
+    }
+
+    private Operation nextOperation() {
+        int total = cumulativeWeights[cumulativeWeights.length - 1];
+        int value = ThreadLocalRandom.current().nextInt(total);
+        for (Operation operation : Operation.values()) {
+            if (value < cumulativeWeights[operation.ordinal()]) {
+                return operation;
+            }
+        }
+        return Operation.TEST;
+    }
+
+    private void parseMix() {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        int sum = 0;
+        for (Operation operation : Operation.values()) {
+            sum += weights.getOrDefault(operation, 0);
+            cumulativeWeights[operation.ordinal()] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("load.mix must have a positive weight: " + mix);
+        }
+    }
+
+    private void writeReport(Map<Operation, Histogram> histograms, double elapsedSeconds) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, true, "UTF-8");
+        out.printf("label=%s baseUrl=%s threads=%d duration=%ds mix=%s%n%n", label, baseUrl, threads, durationSeconds, mix);
+        out.printf("%-8s %10s %10s %10s %10s %10s %10s %10s %10s %8s%n",
+                "op", "count", "ops/s", "mean(ms)", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+        long totalCount = 0L;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            totalCount += histogram.getTotalCount();
+            out.printf("%-8s %10d %10.1f %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f %8d%n",
+                    operation.name().toLowerCase(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    histogram.getMean() / 1e6,
+                    histogram.getValueAtPercentile(50) / 1e6,
+                    histogram.getValueAtPercentile(90) / 1e6,
+                    histogram.getValueAtPercentile(99) / 1e6,
+                    histogram.getValueAtPercentile(99.9) / 1e6,
+                    histogram.getMaxValue() / 1e6,
+                    errors.get(operation).sum());
+        }
+        out.printf("%ntotal throughput: %.1f ops/s%n", totalCount / elapsedSeconds);
+        // 요청별 전체 분포 (ms)
+        for (Operation operation : Operation.values()) {
+            out.printf("%n== %s ==%n", operation.name().toLowerCase());
+            histograms.get(operation).outputPercentileDistribution(out, 1e6);
+        }
+        out.flush();
+
+        if (null != report.getParent()) {
+            Files.createDirectories(report.getParent());
+        }
+        Files.write(report, buffer.toByteArray());
+        System.out.print(buffer.toString("UTF-8"));
+        System.out.println("report: " + report.toAbsolutePath());
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Inner Class
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private enum Operation {
+        SIGNIN, REFRESH, USER, TEST
+    }
+
+    /**
+     * worker 의 현재 토큰
+     */
+    private static class Session {
+
+        private String accessToken;
+
+        private String refreshToken;
+
+        /**
+         * signin/refresh 응답의 access, refresh 토큰 저장
+         * @param response
+         */
+        private void update(JsonNode response) {
+            accessToken = response.path("accessToken").asText(null);
+            refreshToken = response.path("refreshToken").asText(null);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.perf;
+
+import com.example.demo.security.SigninRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 요청 제한 판단 비용 (동시 요청이 많은 경우)
+ * - keys=1 : 모든 thread 가 같은 주소/email 로 요청 (한 bucket 에 CAS 경합)
+ * - keys=100000 : 주소/email 이 분산된 경우 (key 추가/제거 포함)
+ * - capacity 가 작으면 대부분 거부 (봇 요청), 크면 대부분 허용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class SigninRateLimiterBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Parameters
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Param({"1", "100000"})
+    public int keys;
+
+    @Param({"5", "1000000000"})
+    public long capacity;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private SigninRateLimiter limiter;
+
+    private String[] addresses;
+
+    private String[] emails;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup
+    public void setup() {
+        limiter = new SigninRateLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "ipCapacity", capacity);
+        ReflectionTestUtils.setField(limiter, "ipPeriod", 60000L);
+        ReflectionTestUtils.setField(limiter, "emailCapacity", capacity);
+        ReflectionTestUtils.setField(limiter, "emailPeriod", 60000L);
+        ReflectionTestUtils.setField(limiter, "maximumSize", 100000L);
+        ReflectionTestUtils.setField(limiter, "meterRegistry", new SimpleMeterRegistry());
+        limiter.init();
+
+        addresses = new String[keys];
+        emails = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            addresses[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+            emails[i] = "load-user-" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public long acquire() {
+        int i = keys == 1 ? 0 : ThreadLocalRandom.current().nextInt(keys);
+        return limiter.acquire(addresses[i], emails[i]);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.demo.perf;
+
+import com.example.demo.security.JwtTokenUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 thread 모델 비교 (Java 21 에서 실행, mvn -Pjava21,perf)
+ * concurrency 개의 요청이 동시에 들어왔을 때 모두 처리하는 시간
+ * 요청 하나 = 토큰 검증 + latencyMillis 동안 blocking (JDBC 조회 대기)
+ * - platform : Tomcat 기본값과 같은 200 개 고정 pool
+ * - virtual : 요청마다 virtual thread
+ * pinned=true 라면 blocking 을 synchronized 안에서 수행하여 carrier thread 고정의 영향을 본다
+ * 서버 전체 비교는 LoadDriver 로 spring.threads.virtual.enabled 를 바꿔 실행한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Parameters
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    // 동시 요청 수
+    @Param({"200", "2000", "10000"})
+    public int concurrency;
+
+    // 요청당 blocking 시간 (ms)
+    @Param({"5"})
+    public int latencyMillis;
+
+    @Param({"false", "true"})
+    public boolean pinned;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // Tomcat server.tomcat.max-threads 기본값
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    private JwtTokenUtil tokenUtil;
+
+    private String token;
+
+    private ExecutorService executor;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        AuthFixture fixture = new AuthFixture("HS256", 16, true);
+        tokenUtil = fixture.getTokenUtil();
+        token = tokenUtil.generateToken(fixture.getUser().getEmail()).getAccessToken();
+        if ("virtual".equals(threads)) {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                try {
+                    handle();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private void handle() {
+        tokenUtil.getAuthentication(token);
+        if (pinned) {
+            Object monitor = new Object();
+            synchronized (monitor) {
+                block();
+            }
+        } else {
+            block();
+        }
+    }
+
+    private void block() {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
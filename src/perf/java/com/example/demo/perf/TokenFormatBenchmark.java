@@ -0,0 +1,111 @@
+package com.example.demo.perf;
+
+import com.example.demo.domain.User;
+import com.example.demo.security.JwsCodec;
+import com.example.demo.security.TokenClaims;
+import com.example.demo.security.TokenFormat;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access 토큰 형식별 크기 / 서명 / 검증 비용 비교
+ * - LEGACY : 기존 JWS (긴 클래임 이름, refresh_token 클래임 포함)
+ * - JWS : 짧은 클래임 이름, refresh 토큰 제외
+ * - CWT : CBOR (COSE) 바이너리
+ * 토큰 크기 (Authorization header byte) 는 setup 에서 출력한다
+ * 검증은 캐시 없이 서명 검증 + 클래임 디코딩까지 측정 (할당량은 -prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenFormatBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Parameters
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Param({"LEGACY", "JWS", "CWT"})
+    public String format;
+
+    @Param({"HS512", "ES256"})
+    public String algorithm;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    // 기존 토큰에 담기던 refresh 토큰 (opaque 43자)
+    private static final String REFRESH_TOKEN = "q2Vk0a4n0fQ2m3mY9y8Jx7mW1c4nXb2hZ5uT6rE8sA0";
+
+    private JwsCodec jwsCodec;
+
+    private Claims legacyClaims;
+
+    private TokenClaims tokenClaims;
+
+    private String token;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup
+    public void setup() throws Exception {
+        boolean legacy = "LEGACY".equals(format);
+        AuthFixture fixture = new AuthFixture(algorithm, 16, false,
+                legacy ? TokenFormat.JWS : TokenFormat.valueOf(format));
+        jwsCodec = fixture.getJwsCodec();
+        User user = fixture.getUser();
+
+        long now = System.currentTimeMillis() / 1000L;
+        long expiration = now + 1800L;
+        String tokenId = UUID.randomUUID().toString();
+        legacyClaims = Jwts.claims();
+        legacyClaims.put("email", user.getEmail());
+        legacyClaims.put("name", user.getName());
+        legacyClaims.put("adminFl", user.getAdminFlag());
+        legacyClaims.put("id", user.getId());
+        legacyClaims.put("refresh_token", REFRESH_TOKEN);
+        legacyClaims.setId(tokenId);
+        legacyClaims.setIssuedAt(new Date(now * 1000L));
+        legacyClaims.setExpiration(new Date(expiration * 1000L));
+
+        tokenClaims = new TokenClaims(user.getId(), "Dy1QpV3yTz2bG8eJ4m7rKw", user.getId(), user.getEmail(),
+                user.getName(), user.getAdminFlag(), now, expiration);
+
+        token = legacy ? jwsCodec.encode(legacyClaims) : jwsCodec.encode(tokenClaims);
+        int headerBytes = ("Bearer " + token).getBytes(StandardCharsets.US_ASCII).length;
+        System.out.println();
+        System.out.println("# token format=" + format + ", algorithm=" + algorithm
+                + ", token=" + token.length() + " chars, Authorization header=" + headerBytes + " bytes");
+    }
+
+    @Benchmark
+    public String sign() {
+        return "LEGACY".equals(format) ? jwsCodec.encode(legacyClaims) : jwsCodec.encode(tokenClaims);
+    }
+
+    @Benchmark
+    public TokenClaims verify() {
+        return jwsCodec.decodeClaims(token);
+    }
+}
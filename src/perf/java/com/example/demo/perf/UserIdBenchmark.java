@@ -0,0 +1,152 @@
+package com.example.demo.perf;
+
+import com.example.demo.domain.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user.id 형식별 insert / PK 조회 비교 (H2 file DB)
+ * - random : 기존 방식, 난수 UUID 문자열 VARCHAR(36)
+ * - ordered : 시간순 UUID BINARY(16)
+ * rows 만큼 미리 채운 뒤 측정한다
+ * H2 의 B-tree 는 InnoDB 와 다르므로 절대값보다 두 방식의 차이를 본다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserIdBenchmark {
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Parameters
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Param({"random", "ordered"})
+    public String idType;
+
+    @Param({"1000000"})
+    public int rows;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Variables
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private static final int SAMPLE_SIZE = 10000;
+
+    private Connection connection;
+
+    private PreparedStatement insert;
+
+    private PreparedStatement select;
+
+    // 조회에 사용할 기존 id
+    private Object[] samples;
+
+    private long sequence;
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Public Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        String file = System.getProperty("java.io.tmpdir") + "/user-id-benchmark-" + idType;
+        connection = DriverManager.getConnection("jdbc:h2:" + file + ";MODE=MySQL", "sa", "");
+        String idColumn = "random".equals(idType) ? "VARCHAR(36)" : "BINARY(16)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users");
+            statement.execute("CREATE TABLE users (id " + idColumn + " NOT NULL PRIMARY KEY, "
+                    + "name VARCHAR(255) NOT NULL, email VARCHAR(255), admin_flag BOOLEAN NOT NULL)");
+        }
+        insert = connection.prepareStatement("INSERT INTO users (id, name, email, admin_flag) VALUES (?, ?, ?, ?)");
+        select = connection.prepareStatement("SELECT name, email FROM users WHERE id = ?");
+
+        samples = new Object[Math.min(rows, SAMPLE_SIZE)];
+        int step = Math.max(1, rows / samples.length);
+        connection.setAutoCommit(false);
+        for (int i = 0; i < rows; i++) {
+            Object id = newId();
+            if (i % step == 0 && i / step < samples.length) {
+                samples[i / step] = id;
+            }
+            bindInsert(id);
+            insert.addBatch();
+            if (i % 1000 == 999) {
+                insert.executeBatch();
+                connection.commit();
+            }
+        }
+        insert.executeBatch();
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        bindInsert(newId());
+        return insert.executeUpdate();
+    }
+
+    @Benchmark
+    public String findById() throws SQLException {
+        select.setObject(1, samples[ThreadLocalRandom.current().nextInt(samples.length)]);
+        try (ResultSet resultSet = select.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+
+    /*-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+    | Private Method
+    |-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=*/
+
+    private Object newId() {
+        if ("random".equals(idType)) {
+            return UUID.randomUUID().toString();
+        }
+        UUID uuid = TimeOrderedUuidGenerator.generate();
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private void bindInsert(Object id) throws SQLException {
+        long n = sequence++;
+        insert.setObject(1, id);
+        insert.setString(2, "user-" + n);
+        insert.setString(3, "user-" + n + "@example.com");
+        insert.setBoolean(4, false);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.invalidation;
+
+import com.example.demo.security.SigninUserCache;
+import com.example.demo.security.TokenRevocationStore;
+import com.example.demo.security.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * loopback transport 를 공유하는 두 node 사이의 무효화 전달
+ */
+public class InvalidationBusTests {
+
+    private final LoopbackInvalidationTransport transport = new LoopbackInvalidationTransport();
+
+    private final Node first = new Node();
+
+    private final Node second = new Node();
+
+    @Before
+    public void setUp() {
+        first.bus.init();
+        second.bus.init();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        first.bus.destroy();
+        second.bus.destroy();
+    }
+
+    @Test
+    public void appliesUserChangeLocallyAndOnOtherNode() {
+        first.bus.userChanged("user-1", "user-1@example.com");
+
+        // 발행한 node 는 즉시 한번만 적용
+        verify(first.userPrincipalCache, times(1)).invalidate("user-1");
+        verify(second.userPrincipalCache, timeout(1000)).invalidate("user-1");
+        verify(second.signinUserCache, timeout(1000)).invalidate("user-1@example.com");
+        // 자신이 보낸 이벤트는 수신해도 다시 적용하지 않음
+        verify(first.userPrincipalCache, times(1)).invalidate("user-1");
+    }
+
+    @Test
+    public void propagatesTokenRevocation() {
+        first.bus.tokenRevoked("jti-1", 1234L, "user-1@example.com");
+
+        verify(first.tokenRevocationStore).revoke("jti-1", 1234L);
+        verify(second.tokenRevocationStore, timeout(1000)).revoke("jti-1", 1234L);
+    }
+
+    @Test
+    public void coalescesRepeatedEventsBeforeSending() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            first.bus.userChanged("user-1", "user-1@example.com");
+        }
+
+        verify(second.userPrincipalCache, timeout(1000)).invalidate("user-1");
+        Thread.sleep(200L);
+        verify(second.userPrincipalCache, times(1)).invalidate("user-1");
+    }
+
+    /**
+     * 하나의 node (bus 와 캐시)
+     */
+    private class Node {
+
+        private final UserPrincipalCache userPrincipalCache = mock(UserPrincipalCache.class);
+
+        private final SigninUserCache signinUserCache = mock(SigninUserCache.class);
+
+        private final TokenRevocationStore tokenRevocationStore = mock(TokenRevocationStore.class);
+
+        private final InvalidationBus bus = new InvalidationBus();
+
+        private Node() {
+            ReflectionTestUtils.setField(bus, "flushInterval", 50L);
+            ReflectionTestUtils.setField(bus, "maxBatchSize", 500);
+            ReflectionTestUtils.setField(bus, "transport", transport);
+            ReflectionTestUtils.setField(bus, "userPrincipalCache", userPrincipalCache);
+            ReflectionTestUtils.setField(bus, "signinUserCache", signinUserCache);
+            ReflectionTestUtils.setField(bus, "tokenRevocationStore", tokenRevocationStore);
+            ReflectionTestUtils.setField(bus, "meterRegistry", new SimpleMeterRegistry());
+        }
+    }
+}
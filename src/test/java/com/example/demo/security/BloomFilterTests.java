@@ -0,0 +1,60 @@
+package com.example.demo.security;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Bloom filter 포함 여부와 오탐률
+ */
+public class BloomFilterTests {
+
+    private static final int INSERTIONS = 10000;
+
+    @Test
+    public void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+
+        assertFalse(filter.mightContain("jti-1"));
+        assertEquals(0.0, filter.expectedFalsePositiveRate(), 0.0);
+    }
+
+    @Test
+    public void hasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("revoked-" + i));
+        }
+    }
+
+    @Test
+    public void keepsFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10 * INSERTIONS; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        // 예상 원소 수만큼 넣었을 때 목표 오탐률 근처 (여유 2배)
+        assertTrue(falsePositives < INSERTIONS * 10 * 0.02);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    public void sizesBitArrayFromExpectedInsertions() {
+        // m = -n ln(p) / (ln 2)^2 bit 를 64bit 단위로 올림
+        assertEquals(16L, new BloomFilter(10, 0.01).memoryBytes());
+        assertEquals(11984L, new BloomFilter(INSERTIONS, 0.01).memoryBytes());
+    }
+}
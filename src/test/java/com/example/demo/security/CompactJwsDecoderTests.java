@@ -0,0 +1,183 @@
+package com.example.demo.security;
+
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.security.crypto.SigningKey;
+import com.example.demo.security.crypto.TokenSigner;
+import com.example.demo.security.crypto.TokenSignerFactory;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * jjwt 파서를 기준(reference)으로 CompactJwsDecoder 결과 비교
+ */
+public class CompactJwsDecoderTests {
+
+    private static final String SECRET = "JWTSuperSecretKey";
+
+    private final TokenSigner signer = TokenSignerFactory.hmac("HS512", SECRET);
+
+    private final CompactJwsDecoder decoder = new CompactJwsDecoder(KeyRing.of(new SigningKey(null, signer, null)));
+
+    @Test
+    public void decodesSameClaimsAsJjwt() {
+        String token = builder(60000L).compact();
+        assertSameClaims(token);
+    }
+
+    @Test
+    public void decodesNonCanonicalHeader() {
+        String token = builder(60000L).setHeaderParam("typ", "JWT").compact();
+        assertSameClaims(token);
+    }
+
+    @Test
+    public void skipsUnknownClaims() {
+        String token = builder(60000L)
+                .claim("refresh_token", "a.b.c")
+                .claim("nested", Collections.singletonMap("list", Arrays.asList(1, "two", null)))
+                .compact();
+        assertSameClaims(token);
+    }
+
+    @Test
+    public void decodesShortClaimNames() {
+        Date now = new Date();
+        String token = Jwts.builder()
+                .setSubject("41dd8bb4-77e2-419f-ad6a-822e5cb0f826")
+                .claim(TokenClaims.EMAIL, "circlegiven@exntu.com")
+                .claim(TokenClaims.NAME, "최원준")
+                .claim(TokenClaims.ADMIN_FLAG, true)
+                .setId("Dy1QpV3yTz2bG8eJ4m7rKw")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60000L))
+                .signWith(SignatureAlgorithm.HS512, SECRET)
+                .compact();
+        Claims reference = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody();
+        TokenClaims claims = decoder.decode(token);
+        assertEquals(reference.getSubject(), claims.getId());
+        assertEquals(reference.get(TokenClaims.EMAIL), claims.getEmail());
+        assertEquals(reference.get(TokenClaims.NAME), claims.getName());
+        assertEquals(reference.get(TokenClaims.ADMIN_FLAG), claims.getAdminFlag());
+        assertEquals(reference.getId(), claims.getTokenId());
+    }
+
+    @Test
+    public void rejectsTamperedSignatureLikeJjwt() {
+        String token = builder(60000L).compact();
+        int dot = token.lastIndexOf('.');
+        char replaced = token.charAt(dot + 1) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, dot + 1) + replaced + token.substring(dot + 2);
+        assertSameRejection(tampered, SignatureException.class);
+    }
+
+    @Test
+    public void rejectsExpiredLikeJjwt() {
+        String token = builder(-60000L).compact();
+        assertSameRejection(token, ExpiredJwtException.class);
+    }
+
+    @Test
+    public void rejectsMalformedLikeJjwt() {
+        assertSameRejection("not-a-token", MalformedJwtException.class);
+        assertSameRejection("a.b", MalformedJwtException.class);
+    }
+
+    @Test
+    public void rejectsEmptyLikeJjwt() {
+        assertSameRejection("", IllegalArgumentException.class);
+    }
+
+    @Test
+    public void rejectsOtherAlgorithm() {
+        // jjwt 는 header 의 alg 를 그대로 따르지만 디코더는 설정된 알고리즘만 허용한다
+        String token = Jwts.builder()
+                .setClaims(claims(60000L))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+        assertEquals(UnsupportedJwtException.class, rejection(() -> decoder.decode(token)));
+    }
+
+    @Test
+    public void rejectsLegacyRefreshToken() {
+        // 기존 JwtTokenUtil.generateRefreshToken 과 같은 형태 (setClaims 로 sub 는 덮어써지고 id, email 만 남음)
+        Date now = new Date();
+        Claims claims = Jwts.claims();
+        claims.put("email", "circlegiven@exntu.com");
+        claims.put("id", "41dd8bb4-77e2-419f-ad6a-822e5cb0f826");
+        String token = Jwts.builder()
+                .setSubject("refresh_token")
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 604800000L))
+                .signWith(SignatureAlgorithm.HS512, SECRET)
+                .compact();
+        assertEquals(UnsupportedJwtException.class, rejection(() -> decoder.decode(token)));
+    }
+
+    @Test
+    public void rejectsTokenWithoutAdminFlag() {
+        Claims claims = claims(60000L);
+        claims.remove("adminFl");
+        String token = Jwts.builder().setClaims(claims).signWith(SignatureAlgorithm.HS512, SECRET).compact();
+        assertEquals(UnsupportedJwtException.class, rejection(() -> decoder.decode(token)));
+    }
+
+    private JwtBuilder builder(long expiresIn) {
+        return Jwts.builder()
+                .setClaims(claims(expiresIn))
+                .signWith(SignatureAlgorithm.HS512, SECRET);
+    }
+
+    private static Claims claims(long expiresIn) {
+        Date now = new Date();
+        Claims claims = Jwts.claims();
+        claims.put("email", "circlegiven@exntu.com");
+        claims.put("name", "최원준");
+        claims.put("adminFl", true);
+        claims.put("id", "41dd8bb4-77e2-419f-ad6a-822e5cb0f826");
+        claims.setId("0f5e5f54-6a53-4d3c-9b6e-4b8b1c2f7a10");
+        claims.setIssuedAt(now);
+        claims.setExpiration(new Date(now.getTime() + expiresIn));
+        return claims;
+    }
+
+    private void assertSameClaims(String token) {
+        Claims reference = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody();
+        TokenClaims claims = decoder.decode(token);
+        assertEquals(reference.getSubject(), claims.getSubject());
+        assertEquals(reference.getId(), claims.getTokenId());
+        assertEquals(reference.get("id"), claims.getId());
+        assertEquals(reference.get("email"), claims.getEmail());
+        assertEquals(reference.get("name"), claims.getName());
+        assertEquals(reference.get("adminFl"), claims.getAdminFlag());
+        assertEquals(reference.getIssuedAt(), claims.getIssuedAtDate());
+        assertEquals(reference.getExpiration(), claims.getExpirationDate());
+    }
+
+    private void assertSameRejection(String token, Class<? extends Exception> expected) {
+        assertEquals(expected, rejection(() -> Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token)));
+        assertEquals(expected, rejection(() -> decoder.decode(token)));
+    }
+
+    private static Class<?> rejection(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            return e.getClass();
+        }
+        return null;
+    }
+}
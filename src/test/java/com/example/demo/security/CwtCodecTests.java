@@ -0,0 +1,100 @@
+package com.example.demo.security;
+
+import com.example.demo.security.crypto.KeyRing;
+import com.example.demo.security.crypto.SigningKey;
+import com.example.demo.security.crypto.TokenSignerFactory;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.junit.Test;
+
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * CwtCodec 발급/검증
+ */
+public class CwtCodecTests {
+
+    private static final String SECRET = "JWTSuperSecretKey";
+
+    private final SigningKey hmacKey = new SigningKey(null, TokenSignerFactory.hmac("HS512", SECRET), null);
+
+    private final CwtCodec codec = new CwtCodec(KeyRing.of(hmacKey));
+
+    @Test
+    public void roundTripsClaims() {
+        TokenClaims claims = claims(60L);
+        String token = codec.encode(claims);
+        assertFalse(token.contains("."));
+        assertSameClaims(claims, codec.decode(token));
+    }
+
+    @Test
+    public void roundTripsSignatureKeys() {
+        for (String algorithm : new String[]{"ES256", "RS256"}) {
+            SigningKey key = new SigningKey("k1", TokenSignerFactory.asymmetric(algorithm, null, null), null);
+            CwtCodec signatureCodec = new CwtCodec(KeyRing.of(key));
+            TokenClaims claims = claims(60L);
+            assertSameClaims(claims, signatureCodec.decode(signatureCodec.encode(claims)));
+        }
+    }
+
+    @Test
+    public void rejectsTamperedSignature() {
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(claims(60L)));
+        bytes[bytes.length - 1] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        assertEquals(SignatureException.class, rejection(() -> codec.decode(tampered)));
+    }
+
+    @Test
+    public void rejectsExpired() {
+        String token = codec.encode(claims(-60L));
+        assertEquals(ExpiredJwtException.class, rejection(() -> codec.decode(token)));
+    }
+
+    @Test
+    public void rejectsMalformed() {
+        assertEquals(MalformedJwtException.class, rejection(() -> codec.decode("not-a-token")));
+        assertEquals(MalformedJwtException.class, rejection(() -> codec.decode("gw")));
+        assertEquals(IllegalArgumentException.class, rejection(() -> codec.decode("")));
+    }
+
+    @Test
+    public void rejectsOtherKey() {
+        SigningKey otherKey = new SigningKey(null, TokenSignerFactory.hmac("HS256", SECRET), null);
+        String token = new CwtCodec(KeyRing.of(otherKey)).encode(claims(60L));
+        assertEquals(UnsupportedJwtException.class, rejection(() -> codec.decode(token)));
+    }
+
+    private static TokenClaims claims(long expiresIn) {
+        long now = System.currentTimeMillis() / 1000L;
+        String userId = "41dd8bb4-77e2-419f-ad6a-822e5cb0f826";
+        return new TokenClaims(userId, "Dy1QpV3yTz2bG8eJ4m7rKw", userId, "circlegiven@exntu.com", "최원준",
+                true, now, now + expiresIn);
+    }
+
+    private static void assertSameClaims(TokenClaims expected, TokenClaims actual) {
+        assertEquals(expected.getId(), actual.getSubject());
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTokenId(), actual.getTokenId());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getAdminFlag(), actual.getAdminFlag());
+        assertEquals(expected.getIssuedAt(), actual.getIssuedAt());
+        assertEquals(expected.getExpiration(), actual.getExpiration());
+    }
+
+    private static Class<?> rejection(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            return e.getClass();
+        }
+        return null;
+    }
+}
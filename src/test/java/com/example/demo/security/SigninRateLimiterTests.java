@@ -0,0 +1,90 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * SigninRateLimiter 허용/거부
+ */
+public class SigninRateLimiterTests {
+
+    private static final long PERIOD = TimeUnit.MILLISECONDS.toNanos(60000L);
+
+    private SigninRateLimiter limiter;
+
+    @Before
+    public void setUp() {
+        limiter = new SigninRateLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "ipCapacity", 4L);
+        ReflectionTestUtils.setField(limiter, "ipPeriod", 60000L);
+        ReflectionTestUtils.setField(limiter, "emailCapacity", 2L);
+        ReflectionTestUtils.setField(limiter, "emailPeriod", 60000L);
+        ReflectionTestUtils.setField(limiter, "maximumSize", 1000L);
+        ReflectionTestUtils.setField(limiter, "meterRegistry", new SimpleMeterRegistry());
+        limiter.init();
+    }
+
+    @Test
+    public void allowsBurstUpToCapacity() {
+        assertEquals(0L, limiter.acquire("10.0.0.1", "a@example.com", 0L));
+        assertEquals(0L, limiter.acquire("10.0.0.1", "a@example.com", 0L));
+        // 1건이 채워지는 시간 (60s / 2) 만큼 대기
+        assertEquals(30000L, limiter.acquire("10.0.0.1", "a@example.com", 0L));
+    }
+
+    @Test
+    public void refillsOverPeriod() {
+        limiter.acquire(null, "a@example.com", 0L);
+        limiter.acquire(null, "a@example.com", 0L);
+        assertTrue(limiter.acquire(null, "a@example.com", PERIOD / 2 - 1L) > 0L);
+        assertEquals(0L, limiter.acquire(null, "a@example.com", PERIOD / 2));
+    }
+
+    @Test
+    public void limitsEmailAcrossAddresses() {
+        assertEquals(0L, limiter.acquire("10.0.0.1", "a@example.com", 0L));
+        assertEquals(0L, limiter.acquire("10.0.0.2", "A@example.com", 0L));
+        assertTrue(limiter.acquire("10.0.0.3", "a@example.com", 0L) > 0L);
+        assertEquals(0L, limiter.acquire("10.0.0.3", "b@example.com", 0L));
+    }
+
+    @Test
+    public void limitsAddressAcrossEmails() {
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0L, limiter.acquire("10.0.0.1", "user" + i + "@example.com", 0L));
+        }
+        assertTrue(limiter.acquire("10.0.0.1", "user4@example.com", 0L) > 0L);
+        // 주소에서 거부된 요청은 email bucket 을 소비하지 않음
+        assertEquals(0L, limiter.acquire("10.0.0.2", "user4@example.com", 0L));
+        assertEquals(0L, limiter.acquire("10.0.0.2", "user4@example.com", 0L));
+    }
+
+    @Test
+    public void keepsThrottledBucketWhileBelowMaximumSize() {
+        limiter.acquire(null, "a@example.com", 0L);
+        limiter.acquire(null, "a@example.com", 0L);
+        // 최대 key 수 (1000) 안에서는 다른 key 가 많아져도 bucket 이 유지됨
+        for (int i = 0; i < 998; i++) {
+            limiter.acquire(null, "user" + i + "@example.com", 0L);
+        }
+        assertEquals(999L, limiter.trackedKeys());
+        assertTrue(limiter.acquire(null, "a@example.com", 0L) > 0L);
+    }
+
+    @Test
+    public void boundsTrackedKeys() {
+        // 최대 key 수를 넘으면 bucket 이 제거됨 (제거된 key 는 제한이 초기화되므로 maximumSize 는 충분히 크게 설정)
+        for (int i = 0; i < 5000; i++) {
+            limiter.acquire(null, "user" + i + "@example.com", 0L);
+        }
+        assertTrue(limiter.trackedKeys() <= 1000L);
+    }
+}
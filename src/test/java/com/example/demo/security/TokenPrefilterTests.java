@@ -0,0 +1,134 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 서명 검증 전 형식 검사, 최근 거부 토큰, 만료 확인
+ */
+public class TokenPrefilterTests {
+
+    private static final String HEADER = "{\"alg\":\"HS256\"}";
+
+    private static final String SIGNATURE = "c2lnbmF0dXJlLXNpZ25hdHVyZQ";
+
+    private final TokenPrefilter prefilter = new TokenPrefilter();
+
+    private final long now = System.currentTimeMillis() / 1000L;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(prefilter, "enabled", true);
+        ReflectionTestUtils.setField(prefilter, "maxLength", 8192);
+        ReflectionTestUtils.setField(prefilter, "maximumBytes", 4194304L);
+        ReflectionTestUtils.setField(prefilter, "ttl", 60000L);
+        ReflectionTestUtils.setField(prefilter, "meterRegistry", new SimpleMeterRegistry());
+        prefilter.init();
+    }
+
+    @Test
+    public void rejectsEmptyToken() {
+        assertEquals(TokenStatus.EMPTY, prefilter.checkShape(null));
+        assertEquals(TokenStatus.EMPTY, prefilter.checkShape(""));
+    }
+
+    @Test
+    public void acceptsWellFormedJwsAndCwt() {
+        assertNull(prefilter.checkShape(jws("{\"sub\":\"user-1\"}")));
+        // '.' 이 없다면 CWT
+        assertNull(prefilter.checkShape(repeat('A', 64)));
+    }
+
+    @Test
+    public void rejectsWrongNumberOfDots() {
+        String payload = segment("{\"sub\":\"user-1\"}");
+
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape(segment(HEADER) + "." + payload + SIGNATURE));
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape(jws("{\"sub\":\"user-1\"}") + ".extra"));
+    }
+
+    @Test
+    public void rejectsEmptySegments() {
+        String header = segment(HEADER);
+        String payload = segment("{\"sub\":\"user-1\"}");
+
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape("." + payload + "." + SIGNATURE));
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape(header + ".." + SIGNATURE));
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape(header + "." + payload + "."));
+    }
+
+    @Test
+    public void rejectsBadLengthOrCharacters() {
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape("a.b.c"));
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape(repeat('A', 8193)));
+        // base64url 이 아닌 문자 (base64 '+', padding '=')
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape(jws("{\"sub\":\"user-1\"}") + "+"));
+        assertEquals(TokenStatus.MALFORMED, prefilter.checkShape(jws("{\"sub\":\"user-1\"}") + "=="));
+    }
+
+    @Test
+    public void skipsShapeCheckWhenDisabled() {
+        ReflectionTestUtils.setField(prefilter, "enabled", false);
+
+        assertNull(prefilter.checkShape("a.b.c.d"));
+        assertNull(prefilter.check("a.b.c.d"));
+        assertEquals(TokenStatus.EMPTY, prefilter.checkShape(""));
+    }
+
+    @Test
+    public void peeksExpirationWithoutVerifying() {
+        assertEquals(TokenStatus.EXPIRED, prefilter.check(jws("{\"sub\":\"user-1\",\"exp\":" + (now - 60L) + "}")));
+        assertNull(prefilter.check(jws("{\"sub\":\"user-1\",\"exp\":" + (now + 60L) + "}")));
+        // exp 가 없다면 서명 검증에서 판단
+        assertNull(prefilter.check(jws("{\"sub\":\"user-1\"}")));
+    }
+
+    @Test
+    public void rejectsUnreadablePayload() {
+        assertEquals(TokenStatus.MALFORMED, prefilter.check(jws("[\"not\",\"an\",\"object\"]")));
+        // CBOR 배열이 아닌 CWT
+        assertEquals(TokenStatus.MALFORMED, prefilter.check(repeat('A', 64)));
+    }
+
+    @Test
+    public void remembersRejectedTokens() {
+        String token = jws("{\"sub\":\"user-1\",\"exp\":" + (now + 60L) + "}");
+
+        prefilter.rejected(token, TokenStatus.INVALID_SIGNATURE);
+
+        assertEquals(TokenStatus.INVALID_SIGNATURE, prefilter.check(token));
+    }
+
+    @Test
+    public void doesNotRememberRevokedTokens() {
+        String token = jws("{\"sub\":\"user-1\",\"exp\":" + (now + 60L) + "}");
+
+        // 폐기 여부는 TokenRevocationStore 에서 확인
+        prefilter.rejected(token, TokenStatus.REVOKED);
+
+        assertNull(prefilter.check(token));
+    }
+
+    private static String jws(String payload) {
+        return segment(HEADER) + "." + segment(payload) + "." + SIGNATURE;
+    }
+
+    private static String segment(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
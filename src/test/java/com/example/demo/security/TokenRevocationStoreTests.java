@@ -0,0 +1,99 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 토큰 폐기, 만료 항목 정리와 Bloom filter 재생성
+ */
+public class TokenRevocationStoreTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TokenRevocationStore store = new TokenRevocationStore();
+
+    private final long now = System.currentTimeMillis() / 1000L;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(store, "expectedInsertions", 10L);
+        ReflectionTestUtils.setField(store, "falsePositiveRate", 0.01d);
+        ReflectionTestUtils.setField(store, "meterRegistry", meterRegistry);
+        store.init();
+    }
+
+    @Test
+    public void reportsRevokedTokens() {
+        store.revoke("jti-1", now + 3600L);
+
+        assertTrue(store.isRevoked("jti-1"));
+        assertFalse(store.isRevoked("jti-2"));
+        // jti 가 없는 토큰은 폐기 대상이 아님
+        assertFalse(store.isRevoked(null));
+    }
+
+    @Test
+    public void purgeRemovesOnlyExpiredEntries() {
+        store.revoke("expired", now - 10L);
+        store.revoke("live", now + 3600L);
+        // exp 가 없는 토큰은 만료되지 않음
+        store.revoke("no-exp", 0L);
+
+        store.purge();
+
+        assertFalse(store.isRevoked("expired"));
+        assertTrue(store.isRevoked("live"));
+        assertTrue(store.isRevoked("no-exp"));
+        assertEquals(2.0, meterRegistry.get("jwt.revocation.size").gauge().value(), 0.0);
+    }
+
+    @Test
+    public void purgeRebuildsFilterWithoutRemovedEntries() {
+        store.revoke("expired", now - 10L);
+        Object before = ReflectionTestUtils.getField(store, "filter");
+
+        store.purge();
+
+        BloomFilter rebuilt = (BloomFilter) ReflectionTestUtils.getField(store, "filter");
+        assertNotSame(before, rebuilt);
+        assertFalse(rebuilt.mightContain("expired"));
+    }
+
+    @Test
+    public void purgeGrowsFilterBeyondExpectedInsertions() {
+        for (int i = 0; i < 100; i++) {
+            store.revoke("jti-" + i, now + 3600L);
+        }
+        long before = ((BloomFilter) ReflectionTestUtils.getField(store, "filter")).memoryBytes();
+
+        store.purge();
+
+        // 남은 항목 수 * 2 기준으로 재생성
+        long after = ((BloomFilter) ReflectionTestUtils.getField(store, "filter")).memoryBytes();
+        assertEquals(new BloomFilter(200, 0.01).memoryBytes(), after);
+        assertTrue(after > before);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(store.isRevoked("jti-" + i));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void countsBloomFalsePositives() {
+        store.revoke("jti-1", now + 3600L);
+        // filter 에만 남아있는 상태
+        ((Map<String, Long>) ReflectionTestUtils.getField(store, "revoked")).remove("jti-1");
+
+        assertFalse(store.isRevoked("jti-1"));
+        assertEquals(1.0, meterRegistry.get("jwt.revocation.bloom.falsePositives").counter().count(), 0.0);
+    }
+}
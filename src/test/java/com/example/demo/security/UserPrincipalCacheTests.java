@@ -0,0 +1,120 @@
+package com.example.demo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * UserPrincipalCache 동시 조회
+ */
+public class UserPrincipalCacheTests {
+
+    private static final String USER_ID = "41dd8bb4-77e2-419f-ad6a-822e5cb0f826";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private UserPrincipalCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new UserPrincipalCache();
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttl", 60000L);
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        cache.init();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void dropsPrincipalLoadedBeforeInvalidate() {
+        UserPrincipal principal = principal();
+        UserPrincipal loaded = cache.get(USER_ID, id -> {
+            // 조회 중에 사용자 정보가 변경됨
+            cache.invalidate(id);
+            return principal;
+        });
+        assertSame(principal, loaded);
+        assertNull(cache.getIfPresent(USER_ID));
+    }
+
+    @Test
+    public void rethrowsLoaderFailureToWaiters() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> cache.get(USER_ID, id -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<?> inFlight = inFlight(USER_ID);
+        Future<?> waiter = executor.submit(() -> cache.get(USER_ID, id -> {
+            throw new AssertionError("loader called twice");
+        }));
+        // waiter 가 조회 중인 future 를 기다리기 시작한 뒤 (join 대기는 dependent 로 등록됨) 실패시킴
+        awaitDependent(inFlight);
+        release.countDown();
+        assertEquals(IllegalStateException.class, failure(first));
+        assertEquals(IllegalStateException.class, failure(waiter));
+    }
+
+    private static UserPrincipal principal() {
+        return JwtUserFactory.create(USER_ID, "최원준", "circlegiven@exntu.com", false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<?> inFlight(String userId) {
+        return ((Map<String, CompletableFuture<?>>) ReflectionTestUtils.getField(cache, "loading")).get(userId);
+    }
+
+    private static void awaitDependent(CompletableFuture<?> future) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (future.getNumberOfDependents() == 0) {
+            if (System.nanoTime() > deadline) {
+                fail("waiter did not join the in-flight load");
+            }
+            Thread.yield();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Class<?> failure(Future<?> future) throws InterruptedException {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause().getClass();
+        } catch (TimeoutException e) {
+            fail("timed out");
+        }
+        return null;
+    }
+}
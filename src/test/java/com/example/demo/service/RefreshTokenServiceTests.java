@@ -0,0 +1,152 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.RefreshToken;
+import com.example.demo.repository.RefreshTokenRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * refresh 토큰 rotation 과 만료 토큰 정리 (repository 는 메모리 map 으로 대체)
+ */
+public class RefreshTokenServiceTests {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+
+    // token hash -> 저장된 토큰
+    private final Map<String, RefreshToken> tokens = new HashMap<>();
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private final RefreshTokenService service = new RefreshTokenService();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(service, "refreshExpirationTime", 60000L);
+        ReflectionTestUtils.setField(service, "cleanupBatchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(service, "_refreshTokenRepository", repository);
+
+        when(repository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            ReflectionTestUtils.setField(token, "id", ids.incrementAndGet());
+            tokens.put(token.getTokenHash(), token);
+            return token;
+        });
+        when(repository.findByTokenHash(anyString())).thenAnswer(invocation -> tokens.get(invocation.getArgument(0)));
+        when(repository.markUsed(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            for (RefreshToken token : tokens.values()) {
+                if (token.getId().equals(id) && !token.getUsed()) {
+                    token.setUsed(true);
+                    return 1;
+                }
+            }
+            return 0;
+        });
+        when(repository.deleteByFamilyId(anyString())).thenAnswer(invocation -> {
+            String familyId = invocation.getArgument(0);
+            int before = tokens.size();
+            tokens.values().removeIf(token -> token.getFamilyId().equals(familyId));
+            return before - tokens.size();
+        });
+    }
+
+    @Test
+    public void rotatesToNewTokenOfSameFamily() {
+        String token = service.issue("user-1");
+
+        RefreshTokenService.Rotation rotation = service.rotate(token);
+
+        assertNotNull(rotation);
+        assertEquals("user-1", rotation.getUserId());
+        assertNotEquals(token, rotation.getRefreshToken());
+        // 새 토큰도 한번 사용 가능
+        assertNotNull(service.rotate(rotation.getRefreshToken()));
+    }
+
+    @Test
+    public void rejectsUnknownToken() {
+        assertNull(service.rotate("unknown"));
+        assertNull(service.rotate(null));
+    }
+
+    @Test
+    public void reuseRevokesWholeFamily() {
+        String token = service.issue("user-1");
+        String next = service.rotate(token).getRefreshToken();
+        String otherLogin = service.issue("user-1");
+
+        // 이미 사용된 토큰 재사용
+        assertNull(service.rotate(token));
+
+        // 같은 family 의 최신 토큰도 폐기, 다른 로그인은 유지
+        assertNull(service.rotate(next));
+        assertNotNull(service.rotate(otherLogin));
+    }
+
+    @Test
+    public void concurrentUseOfSameTokenRevokesFamily() {
+        String token = service.issue("user-1");
+        RefreshToken stored = tokens.values().iterator().next();
+        // 다른 요청이 사용 처리하기 전에 읽은 상태 (used = false)
+        RefreshToken stale = new RefreshToken(stored.getTokenHash(), stored.getUserId(), stored.getFamilyId(),
+                stored.getExpiresAt());
+        ReflectionTestUtils.setField(stale, "id", stored.getId());
+
+        // 먼저 처리된 요청
+        String next = service.rotate(token).getRefreshToken();
+        // 늦은 요청은 markUsed 가 0 이므로 재사용으로 보고 family 폐기
+        when(repository.findByTokenHash(stored.getTokenHash())).thenReturn(stale);
+
+        assertNull(service.rotate(token));
+        assertNull(service.rotate(next));
+    }
+
+    @Test
+    public void rejectsExpiredTokenWithoutRevokingFamily() {
+        ReflectionTestUtils.setField(service, "refreshExpirationTime", -1000L);
+        String expired = service.issue("user-1");
+
+        assertNull(service.rotate(expired));
+        verify(repository, times(0)).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    public void deletesExpiredInBatchesUntilShortBatch() {
+        when(repository.deleteExpired(any(Date.class), anyInt())).thenReturn(BATCH_SIZE, BATCH_SIZE, 7);
+
+        service.deleteExpired();
+
+        verify(repository, times(3)).deleteExpired(any(Date.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    public void deletesExpiredOnceWhenNothingToDelete() {
+        when(repository.deleteExpired(any(Date.class), anyInt())).thenReturn(0);
+
+        service.deleteExpired();
+
+        verify(repository, times(1)).deleteExpired(any(Date.class), anyInt());
+    }
+}
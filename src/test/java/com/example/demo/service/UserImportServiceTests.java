@@ -0,0 +1,190 @@
+package com.example.demo.service;
+
+import com.example.demo.payload.ImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 일괄 등록의 CSV/NDJSON 해석과 chunk 실패시 row 단위 재시도 (DB 는 mock)
+ */
+public class UserImportServiceTests {
+
+    private static final String BOUNDARY = "import-boundary";
+
+    private static final String DUPLICATE_EMAIL = "dup@example.com";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final UserImportService service = new UserImportService();
+
+    // insert 된 (name, email), batch 는 중복이 있으면 전체 실패
+    private final List<List<String>> inserted = new ArrayList<>();
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "chunkSize", 5000);
+        ReflectionTestUtils.setField(service, "maxFailures", 1000);
+        ReflectionTestUtils.setField(service, "_jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "_transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(service, "_objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "_userService", new UserService());
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Object> rows = invocation.getArgument(1);
+                    ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+                    List<List<String>> batch = new ArrayList<>();
+                    for (Object row : rows) {
+                        List<String> values = bind(ps -> setter.setValues(ps, row));
+                        if (DUPLICATE_EMAIL.equals(values.get(1))) {
+                            throw new DuplicateKeyException("Duplicate entry");
+                        }
+                        batch.add(values);
+                    }
+                    inserted.addAll(batch);
+                    return new int[0][];
+                });
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            PreparedStatementSetter setter = invocation.getArgument(1);
+            List<String> values = bind(setter);
+            if (DUPLICATE_EMAIL.equals(values.get(1))) {
+                throw new DuplicateKeyException("Duplicate entry");
+            }
+            inserted.add(values);
+            return 1;
+        });
+    }
+
+    @Test
+    public void parsesQuotedCsvValues() throws Exception {
+        ImportResult result = service.importUsers(upload("users.csv", "text/csv",
+                "name,email,adminFlag\n"
+                        + "\"Kim, Jr.\",kim@example.com,true\n"
+                        + "\"He said \"\"hi\"\"\",hi@example.com,false\n"
+                        + "  lee  ,lee@example.com\n"));
+
+        assertEquals(3L, result.getTotal());
+        assertEquals(3L, result.getInserted());
+        assertEquals(Arrays.asList(
+                Arrays.asList("Kim, Jr.", "kim@example.com"),
+                Arrays.asList("He said \"hi\"", "hi@example.com"),
+                Arrays.asList("lee", "lee@example.com")), inserted);
+    }
+
+    @Test
+    public void readsCsvColumnsByHeaderName() throws Exception {
+        ImportResult result = service.importUsers(upload("users.csv", "text/csv",
+                "Email,AdminFlag,Name\nkim@example.com,false,kim\n"));
+
+        assertEquals(1L, result.getInserted());
+        assertEquals(Arrays.asList(Arrays.asList("kim", "kim@example.com")), inserted);
+    }
+
+    @Test
+    public void rejectsCsvWithoutRequiredHeader() throws Exception {
+        ImportResult result = service.importUsers(upload("users.csv", "text/csv", "name,mail\nkim,kim@example.com\n"));
+
+        assertEquals(0L, result.getInserted());
+        assertEquals("MISSING_HEADER", result.getFailures().get(0).getReason());
+    }
+
+    @Test
+    public void reportsInvalidRowsWithLineNumbers() throws Exception {
+        ImportResult result = service.importUsers(upload("users.ndjson", "application/x-ndjson",
+                "{\"name\":\"kim\",\"email\":\"kim@example.com\"}\n"
+                        + "\n"
+                        + "{\"name\":\"\",\"email\":\"blank@example.com\"}\n"
+                        + "{\"name\":\"lee\",\"email\":\"not-an-email\"}\n"
+                        + "{broken\n"));
+
+        assertEquals(4L, result.getTotal());
+        assertEquals(1L, result.getInserted());
+        assertEquals(3L, result.getFailed());
+        assertFailure(result.getFailures().get(0), 3L, "INVALID_NAME");
+        assertFailure(result.getFailures().get(1), 4L, "INVALID_EMAIL");
+        assertFailure(result.getFailures().get(2), 5L, "INVALID_JSON");
+    }
+
+    @Test
+    public void retriesFailedChunkRowByRow() throws Exception {
+        ImportResult result = service.importUsers(upload("users.csv", "text/csv",
+                "name,email\nkim,kim@example.com\ndup," + DUPLICATE_EMAIL + "\nlee,lee@example.com\n"));
+
+        // 중복 row 만 실패하고 나머지는 row 단위로 다시 insert
+        assertEquals(3L, result.getTotal());
+        assertEquals(2L, result.getInserted());
+        assertEquals(1L, result.getFailed());
+        assertFailure(result.getFailures().get(0), 3L, "ALREADY_EXISTS");
+        assertEquals(Arrays.asList(
+                Arrays.asList("kim", "kim@example.com"),
+                Arrays.asList("lee", "lee@example.com")), inserted);
+    }
+
+    private static void assertFailure(ImportResult.Failure failure, long line, String reason) {
+        assertEquals(line, failure.getLine());
+        assertEquals(reason, failure.getReason());
+    }
+
+    /**
+     * setter 가 설정한 name, email 값
+     */
+    private static List<String> bind(PreparedStatementSetter setter) throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        String[] values = new String[2];
+        doAnswer(invocation -> {
+            // 2 = name, 3 = email
+            Integer index = invocation.getArgument(0);
+            values[index - 2] = invocation.getArgument(1);
+            return null;
+        }).when(ps).setString(anyInt(), anyString());
+        setter.setValues(ps);
+        return Arrays.asList(values);
+    }
+
+    /**
+     * 파일 하나를 담은 multipart 요청
+     */
+    private static MockHttpServletRequest upload(String fileName, String contentType, String content) {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n"
+                + "\r\n"
+                + content + "\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/import");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}